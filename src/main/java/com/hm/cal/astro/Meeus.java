@@ -530,8 +530,22 @@ public class Meeus {
    * @return an array[4] containing the next lunar cycle in Julian days.
    */
   public static double[] getMoonQuarters(int year, int month, int day) {
-    double[] quarters = new double[4];
     double k = floor((year + ((month - 1) + day / 30.0) / 12.0 - 2000) * 12.3685);
+    return getMoonQuarters(k);
+  }
+
+  /**
+   * Gets the dates of the four quarters of the moon of a given lunation.
+   * Lunations are counted from the new moon of January 6, 2000, which is
+   * lunation zero. The returned array will begin with the new moon,
+   * followed by the first quarter moon, the full moon, and finally the last
+   * quarter moon.
+   *
+   * @param k a lunation number.
+   * @return an array[4] containing the lunar cycle in Julian days.
+   */
+  public static double[] getMoonQuarters(double k) {
+    double[] quarters = new double[4];
     // Time in Julian centuries since 2000
     double t = k / 1236.85;
     double t2 = t * t;
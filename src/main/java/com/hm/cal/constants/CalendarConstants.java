@@ -322,4 +322,287 @@ public final class CalendarConstants {
       };
   }
 
+  public static final class IndianCivilCalendarConstants {
+    public static final String[] weekDayNames =
+      {
+        "Ravivara",
+        "Somavara",
+        "Mangalavara",
+        "Budhavara",
+        "Guruvara",
+        "Shukravara",
+        "Shanivara"
+      };
+
+    public static final String[] monthNames =
+      {
+        "Chaitra",
+        "Vaishakha",
+        "Jyeshtha",
+        "Ashadha",
+        "Shravana",
+        "Bhadra",
+        "Ashvin",
+        "Kartika",
+        "Agrahayana",
+        "Pausha",
+        "Magha",
+        "Phalguna"
+      };
+  }
+
+  public static final class CopticCalendarConstants {
+    public static final String[] weekDayNames =
+      {
+        "Tkyriaka",
+        "Pesnau",
+        "Pshoment",
+        "Peftoou",
+        "Ptiou",
+        "Psoou",
+        "Psabbaton"
+      };
+
+    public static final String[] monthNames =
+      {
+        "Thout",
+        "Paopi",
+        "Hathor",
+        "Koiak",
+        "Tobi",
+        "Meshir",
+        "Paremhat",
+        "Parmouti",
+        "Pashons",
+        "Paoni",
+        "Epip",
+        "Mesori",
+        "Pi Kogi Enavot"
+      };
+  }
+
+  public static final class EthiopianCalendarConstants {
+    public static final String[] weekDayNames =
+      {
+        "Ehud",
+        "Segno",
+        "Maksegno",
+        "Rebu",
+        "Hamus",
+        "Arb",
+        "Kidame"
+      };
+
+    public static final String[] monthNames =
+      {
+        "Meskerem",
+        "Tekemt",
+        "Hedar",
+        "Tahsas",
+        "Ter",
+        "Yekatit",
+        "Megabit",
+        "Miazia",
+        "Genbot",
+        "Sene",
+        "Hamle",
+        "Nehasse",
+        "Pagume"
+      };
+  }
+
+  public static final class ChineseCalendarConstants {
+    public static final String[] weekDayNames =
+      {
+        "Xingqiri",
+        "Xingqiyi",
+        "Xingqier",
+        "Xingqisan",
+        "Xingqisi",
+        "Xingqiwu",
+        "Xingqiliu"
+      };
+
+    public static final String[] monthNames =
+      {
+        "Zhengyue",
+        "Eryue",
+        "Sanyue",
+        "Siyue",
+        "Wuyue",
+        "Liuyue",
+        "Qiyue",
+        "Bayue",
+        "Jiuyue",
+        "Shiyue",
+        "Dongyue",
+        "Layue"
+      };
+
+    public static final String[] celestialStems =
+      {
+        "Jia",
+        "Yi",
+        "Bing",
+        "Ding",
+        "Wu",
+        "Ji",
+        "Geng",
+        "Xin",
+        "Ren",
+        "Gui"
+      };
+
+    public static final String[] earthlyBranches =
+      {
+        "Zi",
+        "Chou",
+        "Yin",
+        "Mao",
+        "Chen",
+        "Si",
+        "Wu",
+        "Wei",
+        "Shen",
+        "You",
+        "Xu",
+        "Hai"
+      };
+
+    public static final String[] zodiacAnimals =
+      {
+        "Rat",
+        "Ox",
+        "Tiger",
+        "Rabbit",
+        "Dragon",
+        "Snake",
+        "Horse",
+        "Goat",
+        "Monkey",
+        "Rooster",
+        "Dog",
+        "Pig"
+      };
+
+    public static final String[] solarTermNames =
+      {
+        "Lichun",
+        "Yushui",
+        "Jingzhe",
+        "Chunfen",
+        "Qingming",
+        "Guyu",
+        "Lixia",
+        "Xiaoman",
+        "Mangzhong",
+        "Xiazhi",
+        "Xiaoshu",
+        "Dashu",
+        "Liqiu",
+        "Chushu",
+        "Bailu",
+        "Qiufen",
+        "Hanlu",
+        "Shuangjiang",
+        "Lidong",
+        "Xiaoxue",
+        "Daxue",
+        "Dongzhi",
+        "Xiaohan",
+        "Dahan"
+      };
+  }
+
+  public static final class EraCalendarConstants {
+    public static final String[] calendarNames =
+      {
+        "Dangun Calendar",
+        "Juche Calendar",
+        "Minguo Calendar",
+        "Thai Buddhist Calendar",
+        "Japanese Calendar"
+      };
+
+    public static final String[] japaneseEraNames =
+      {
+        "Meiji",
+        "Taisho",
+        "Showa",
+        "Heisei",
+        "Reiwa"
+      };
+  }
+
+  public static final class SovietCalendarConstants {
+    public static final String[] fiveDayWeekNames =
+      {
+        "Yellow",
+        "Peach",
+        "Red",
+        "Purple",
+        "Green"
+      };
+
+    public static final String[] sixDayWeekNames =
+      {
+        "First Day",
+        "Second Day",
+        "Third Day",
+        "Fourth Day",
+        "Fifth Day",
+        "Rest Day"
+      };
+
+    public static final String sixDayWeekExtraDayName = "Extra Day";
+
+    public static final String[] holidayNames =
+      {
+        "Lenin Day",
+        "Leap Day",
+        "First Day of Labour",
+        "Second Day of Labour",
+        "First Day of Industry",
+        "Second Day of Industry"
+      };
+  }
+
+  public static final class BahaiCalendarConstants {
+    public static final String[] weekDayNames =
+      {
+        "Jamál",
+        "Kamál",
+        "Fiḍál",
+        "ʻIdál",
+        "Istijlál",
+        "Istiqlál",
+        "Jalál"
+      };
+
+    public static final String[] monthNames =
+      {
+        "Bahá",
+        "Jalál",
+        "Jamál",
+        "ʻAẓamat",
+        "Núr",
+        "Raḥmat",
+        "Kalimát",
+        "Kamál",
+        "Asmáʼ",
+        "ʻIzzat",
+        "Mas͟híyyat",
+        "ʻIlm",
+        "Qudrat",
+        "Qawl",
+        "Masáʼil",
+        "S͟haraf",
+        "Sulṭán",
+        "Mulk",
+        "ʻAláʼ"
+      };
+
+    public static final String intercalaryDaysName = "Ayyám-i-Há";
+  }
+
 }
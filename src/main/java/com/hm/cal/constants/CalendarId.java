@@ -0,0 +1,57 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.constants;
+
+/**
+ * Identifiers of the supported calendar systems.
+ *
+ * @since 2026.10.16
+ */
+public enum CalendarId {
+  GREGORIAN(0),
+  JULIAN(1),
+  FRENCH_REPUBLICAN(2),
+  MAYA(3),
+  ISLAMIC(4),
+  HEBREW(5),
+  PERSIAN(6),
+  PERSIAN_ARITHMETIC(7),
+  ISLAMIC_UMM_AL_QURA(8),
+  FRENCH_REPUBLICAN_ARITHMETIC(9),
+  INDIAN_CIVIL(10),
+  COPTIC(11),
+  ETHIOPIAN(12),
+  ETHIOPIAN_AMETE_ALEM(13),
+  CHINESE(14),
+  DANGUN(15),
+  JUCHE(16),
+  MINGUO(17),
+  THAI_BUDDHIST(18),
+  JAPANESE(19),
+  SOVIET(20),
+  SOVIET_REVOLUTIONARY(21),
+  BAHAI(22);
+
+  private final int value;
+
+  CalendarId(int value) {
+    this.value = value;
+  }
+
+  public int getValue() {
+    return value;
+  }
+}
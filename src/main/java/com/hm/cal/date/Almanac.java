@@ -15,13 +15,17 @@
  *****************************************************************************/
 package com.hm.cal.date;
 
+import com.hm.cal.system.CalendarSystem;
+
 import java.io.Serializable;
 
-import static com.hm.cal.util.AlmanacConverter.toJulianDay;
-import static java.lang.Math.floor;
+import static com.hm.cal.util.Util.floorMod;
 
 /**
  * An almanac.
+ * <p>
+ * Almanacs are mutable and are not safe to share between threads; use a
+ * {@link CalendarDate} for an immutable date.
  *
  * @author Chris Engelsma.
  * @version 2015.11.04
@@ -41,10 +45,10 @@ public abstract class Almanac implements Serializable {
    * @return true, if are chronological; false, otherwise.
    */
   public static boolean datesAreChronological(Almanac... a) {
-    JulianDay d0 = toJulianDay(a[0]);
+    long d0 = a[0].getDayNumber();
     for (int i = 1; i < a.length; ++i) {
-      JulianDay d1 = toJulianDay(a[i]);
-      if (d1.getValue() < d0.getValue()) return false;
+      long d1 = a[i].getDayNumber();
+      if (d1 < d0) return false;
       d0 = d1;
     }
     return true;
@@ -57,10 +61,10 @@ public abstract class Almanac implements Serializable {
    * @return true, if are reverse chronological; false, otherwise.
    */
   public static boolean datesAreReverseChronological(Almanac... a) {
-    JulianDay d0 = toJulianDay(a[0]);
+    long d0 = a[0].getDayNumber();
     for (int i = 1; i < a.length; ++i) {
-      JulianDay d1 = toJulianDay(a[i]);
-      if (d1.getValue() > d0.getValue()) return false;
+      long d1 = a[i].getDayNumber();
+      if (d1 > d0) return false;
       d0 = d1;
     }
     return true;
@@ -75,8 +79,18 @@ public abstract class Almanac implements Serializable {
    */
   public int getWeekDayNumber() {
     int weekLength = getNumberOfDaysInWeek();
-    double jd = (toJulianDay(this)).getValue();
-    return (int) floor(jd + 1.5) % weekLength;
+    return (int) floorMod(getDayNumber() + 1, weekLength);
+  }
+
+  /**
+   * Gets the fixed day number of this date.
+   * Calendars whose conversion is expensive extend {@link MemoizedAlmanac},
+   * which computes the number once and reuses it until this date changes.
+   *
+   * @return the fixed day number.
+   */
+  public long getDayNumber() {
+    return computeDayNumber();
   }
 
   /**
@@ -124,6 +138,7 @@ public abstract class Almanac implements Serializable {
    */
   public void setYear(int year) {
     this.year = year;
+    invalidateDayNumber();
   }
 
   /**
@@ -142,6 +157,7 @@ public abstract class Almanac implements Serializable {
    */
   public void setMonth(int month) {
     this.month = month;
+    invalidateDayNumber();
   }
 
   /**
@@ -160,6 +176,7 @@ public abstract class Almanac implements Serializable {
    */
   public void setDay(int day) {
     this.day = day;
+    invalidateDayNumber();
   }
 
   /**
@@ -202,8 +219,8 @@ public abstract class Almanac implements Serializable {
   public void prevDay() {
     if (day == 1) {
       if (month == 1) {
-        month = getNumberOfMonthsInYear();
         year--;
+        month = getNumberOfMonthsInYear();
       } else month--;
       day = getNumberOfDaysInMonth();
     } else day--;
@@ -241,4 +258,48 @@ public abstract class Almanac implements Serializable {
   public abstract int getNumberOfMonthsInYear();
 
   public abstract void set(Almanac a);
+
+  /**
+   * Gets the calendar system that converts this date.
+   *
+   * @return the calendar system; null, if this date is not backed by one.
+   */
+  public abstract CalendarSystem getCalendarSystem();
+
+  /**
+   * Computes the fixed day number of this date.
+   * Subclasses that are not converted by a calendar system override this.
+   *
+   * @return the fixed day number.
+   */
+  protected long computeDayNumber() {
+    return getCalendarSystem().toFixed(this);
+  }
+
+  /**
+   * Discards the cached fixed day number, if this date keeps one.
+   * Subclasses call this whenever the day changes other than through the
+   * year, month and day, such as when the calendar type changes.
+   */
+  protected void invalidateDayNumber() {
+  }
+
+  /**
+   * Determines if this date has the same year, month and day as another.
+   *
+   * @param a an almanac.
+   * @return true, if the year, month and day match; false, otherwise.
+   */
+  protected final boolean hasSameDate(Almanac a) {
+    return this.year == a.year && this.month == a.month && this.day == a.day;
+  }
+
+  /**
+   * Gets a hash code of the year, month and day.
+   *
+   * @return the hash code.
+   */
+  protected final int hashDate() {
+    return 31 * (31 * this.year + this.month) + this.day;
+  }
 }
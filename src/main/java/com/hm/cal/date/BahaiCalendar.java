@@ -0,0 +1,511 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.hm.cal.astro.Meeus;
+import com.hm.cal.astro.Season;
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.constants.CalendarConstants.BahaiCalendarConstants.*;
+import static com.hm.cal.util.AlmanacConverter.toBahaiCalendar;
+import static com.hm.cal.util.PackedDate.pack;
+import static com.hm.cal.util.Util.dcos;
+import static com.hm.cal.util.Util.dsin;
+import static com.hm.cal.util.Util.rtd;
+
+/**
+ * A date in the Bahá'í (Badí') calendar.
+ * <p>
+ * The Bahá'í year has 19 months of 19 days. The four or five intercalary
+ * days of Ayyám-i-Há fall between the 18th and 19th months, and are held
+ * here in month 0. Years are counted from Naw-Rúz of 1844, in the Bahá'í
+ * Era (BE).
+ * <p>
+ * Since 172 BE (2015), Naw-Rúz falls on the day on which the vernal equinox
+ * occurs before sunset in Tehran. Earlier years began on 21 March. For
+ * 172 - 221 BE the dates are read from the table published by the Universal
+ * House of Justice, bundled as a resource; later years are computed.
+ * <p>
+ * The equinox and sunset are computed once per year and cached in a table
+ * of Naw-Rúz day numbers; conversions only read the table.
+ *
+ * @since 2026.10.16
+ */
+public class BahaiCalendar extends MemoizedAlmanac {
+
+  public static final String CALENDAR_NAME = "Bahá'í Calendar";
+  public static final JulianDay EPOCH = JulianDay.constant(2394646.5);
+
+  // The first year to begin at the equinox, and the years between the
+  // Bahá'í and Gregorian eras.
+  private static final int _astronomicalYear = 172;
+  private static final int _gregorianOffset = 1843;
+
+  // Tehran, in degrees north and east, and its offset from UT in days.
+  private static final double _tehranLatitude = 35.696111;
+  private static final double _tehranLongitude = 51.423056;
+  private static final double _tehranOffset = 3.5 / 24.0;
+
+  /**
+   * Constructs a Bahá'í date set to today.
+   */
+  public BahaiCalendar() {
+    this(new JulianDay());
+  }
+
+  /**
+   * Constructs a Bahá'í date from an Almanac.
+   *
+   * @param a an Almanac.
+   */
+  public BahaiCalendar(Almanac a) {
+    this(toBahaiCalendar(a));
+  }
+
+  /**
+   * Constructs a Bahá'í date from another Bahá'í date.
+   *
+   * @param date a Bahá'í date.
+   */
+  public BahaiCalendar(BahaiCalendar date) {
+    this(date.getYear(), date.getMonth(), date.getDay());
+  }
+
+  /**
+   * Constructs a Bahá'í date.
+   *
+   * @param year  a year.
+   * @param month a month [1-19]; or 0, for Ayyám-i-Há.
+   * @param day   a day.
+   */
+  public BahaiCalendar(int year, int month, int day) {
+    super();
+    this.year = year;
+    this.month = month;
+    this.day = day;
+  }
+
+  /**
+   * Returns today's date as a string.
+   * Convenience static method.
+   *
+   * @return today's date.
+   */
+  public static String asToday() {
+    return (new BahaiCalendar()).toString();
+  }
+
+  /**
+   * Gets the fixed day number of Naw-Rúz, the first day of a given year.
+   * Days are cached, so the astronomy runs once per year.
+   *
+   * @param year a year.
+   * @return the fixed day number of 1 Bahá.
+   */
+  public static long getNawRuz(int year) {
+    int i = year - NawRuzTable.FIRST_YEAR;
+    if (i < 0 || i >= NawRuzTable.NAW_RUZ.length)
+      return computeNawRuz(year);
+
+    // An int is written atomically, so a day is safe to publish through a
+    // plain array without a lock; at worst two threads compute it.
+    int nawRuz = NawRuzTable.NAW_RUZ[i];
+    if (nawRuz == 0) {
+      nawRuz = (int) computeNawRuz(year);
+      NawRuzTable.NAW_RUZ[i] = nawRuz;
+    }
+    return nawRuz;
+  }
+
+  /**
+   * Determines whether a given year is a leap year.
+   *
+   * @param year a year.
+   * @return true, if a leap year; false, otherwise.
+   */
+  public static boolean isLeapYear(int year) {
+    return getNawRuz(year + 1) - getNawRuz(year) == 366;
+  }
+
+  /**
+   * Gets the number of days in a given month.
+   *
+   * @param year  a year.
+   * @param month a month [1-19]; or 0, for Ayyám-i-Há.
+   * @return the number of days in the month.
+   */
+  public static int getNumberOfDaysInMonth(int year, int month) {
+    if (month == 0)
+      return (int) (getNawRuz(year + 1) - getNawRuz(year)) - 361;
+    return 19;
+  }
+
+  /**
+   * Gets a month name.
+   *
+   * @param month the month number [1-19]; or 0, for Ayyám-i-Há.
+   * @return the name of the month.
+   * @throws IndexOutOfBoundsException
+   */
+  public static String getMonthName(int month)
+    throws IndexOutOfBoundsException {
+    return (month == 0) ? intercalaryDaysName : monthNames[month - 1];
+  }
+
+  /**
+   * Converts a date to its fixed day number.
+   * <p>
+   * This conversion reads the cached Naw-Rúz table and does not allocate.
+   *
+   * @param year  a year.
+   * @param month a month [1-19]; or 0, for Ayyám-i-Há.
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day) {
+    if (month == 19)
+      return getNawRuz(year + 1) - 20 + day;
+    long nawRuz = getNawRuz(year);
+    if (month == 0)
+      return nawRuz + 341 + day;
+    return nawRuz + (19 * (month - 1)) + (day - 1);
+  }
+
+  /**
+   * Converts a fixed day number to a date.
+   * <p>
+   * This conversion reads the cached Naw-Rúz table and does not allocate.
+   *
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed) {
+    int year = PackedDate.getYear(GregorianCalendar.fromFixed(fixed)) -
+      _gregorianOffset;
+    long nawRuz = getNawRuz(year);
+    if (fixed < nawRuz)
+      nawRuz = getNawRuz(--year);
+
+    int n = (int) (fixed - nawRuz);
+    if (n < 342)
+      return pack(year, (n / 19) + 1, (n % 19) + 1);
+    long ala = getNawRuz(year + 1) - 19;
+    if (fixed < ala)
+      return pack(year, 0, n - 341);
+    return pack(year, 19, (int) (fixed - ala) + 1);
+  }
+
+  /**
+   * Gets this month's name.
+   *
+   * @return the name of this month.
+   */
+  public String getMonthName() {
+    return getMonthName(this.month);
+  }
+
+  /**
+   * Determines whether this date falls in Ayyám-i-Há.
+   *
+   * @return true, if an intercalary day; false, otherwise.
+   */
+  public boolean isIntercalary() {
+    return month == 0;
+  }
+
+  /**
+   * Determines whether this date's year is a leap year.
+   *
+   * @return true, if this is a leap year; false, otherwise.
+   */
+  public boolean isLeapYear() {
+    return isLeapYear(this.year);
+  }
+
+  /**
+   * Gets the fixed day number of this date.
+   *
+   * @return the fixed day number.
+   */
+  public long getFixed() {
+    return toFixed(this.year, this.month, this.day);
+  }
+
+  /**
+   * Sets this date to the next day.
+   */
+  @Override
+  public void nextDay() {
+    setFixed(getFixed() + 1);
+  }
+
+  /**
+   * Sets this date to the previous day.
+   */
+  @Override
+  public void prevDay() {
+    setFixed(getFixed() - 1);
+  }
+
+  /**
+   * Gets the date.
+   *
+   * @return the date.
+   */
+  @Override
+  public String getDate() {
+    return new String(getDay() + " " +
+      getMonthName() + ", " +
+      getYear());
+  }
+
+  /**
+   * Gets the name of this calendar.
+   *
+   * @return the name of this calendar.
+   */
+  @Override
+  public String getName() {
+    return CALENDAR_NAME;
+  }
+
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    return CalendarSystems.get(CalendarId.BAHAI);
+  }
+
+  /**
+   * Gets the month names.
+   *
+   * @return an array[19] containing the month names.
+   */
+  @Override
+  public String[] getMonths() {
+    return monthNames.clone();
+  }
+
+  /**
+   * Gets the week day names.
+   *
+   * @return an array[7] containing the week day names.
+   */
+  @Override
+  public String[] getWeekDays() {
+    return weekDayNames.clone();
+  }
+
+  /**
+   * Gets the name for this week day.
+   *
+   * @return the name for this week day.
+   */
+  @Override
+  public String getWeekDay() {
+    return weekDayNames[getWeekDayNumber()];
+  }
+
+  /**
+   * Gets the number of days in this month.
+   *
+   * @return the number of days in this month.
+   */
+  @Override
+  public int getNumberOfDaysInMonth() {
+    return getNumberOfDaysInMonth(this.year, this.month);
+  }
+
+  /**
+   * Gets the number of days in a week.
+   *
+   * @return the number of days in a week.
+   */
+  @Override
+  public int getNumberOfDaysInWeek() {
+    return 7;
+  }
+
+  /**
+   * Gets the number of months in a year.
+   *
+   * @return the number of months in a year.
+   */
+  @Override
+  public int getNumberOfMonthsInYear() {
+    return 19;
+  }
+
+  /**
+   * Sets this calendar using another Almanac.
+   *
+   * @param a an Almanac.
+   */
+  @Override
+  public void set(Almanac a) {
+    setFixed(AlmanacConverter.toFixed(a));
+  }
+
+  @Override
+  public String toString() {
+    return new String(getName() + ": " + getDate());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof BahaiCalendar))
+      return false;
+    if (obj == this)
+      return true;
+
+    final BahaiCalendar date = (BahaiCalendar) obj;
+    return hasSameDate(date);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashDate();
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  /**
+   * Sets this date to a fixed day number.
+   *
+   * @param fixed a fixed day number.
+   */
+  private void setFixed(long fixed) {
+    long date = fromFixed(fixed);
+    this.year = PackedDate.getYear(date);
+    this.month = PackedDate.getMonth(date);
+    this.day = PackedDate.getDay(date);
+  }
+
+  /**
+   * Computes the fixed day number of Naw-Rúz of a given year.
+   *
+   * @param year a year.
+   * @return the fixed day number of 1 Bahá.
+   */
+  private static long computeNawRuz(int year) {
+    int gregorianYear = year + _gregorianOffset;
+    if (year < _astronomicalYear)
+      return GregorianCalendar.toFixed(gregorianYear, 3, 21);
+    if (year <= PublishedTable.LAST_YEAR)
+      return GregorianCalendar.toFixed(gregorianYear, 3,
+        PublishedTable.MARCH_DAYS[year - PublishedTable.FIRST_YEAR]);
+
+    double equinox = Meeus.equinox(gregorianYear, Season.SPRING) -
+      (Meeus.deltat(gregorianYear) / 86400.0);
+    long day = JulianDay.toFixed(equinox + _tehranOffset);
+    return (equinox < tehranSunset(day)) ? day : day + 1;
+  }
+
+  /**
+   * Computes the moment of sunset in Tehran.
+   *
+   * @param fixed a fixed day number.
+   * @return the Julian Day of sunset, in Universal Time.
+   */
+  private static double tehranSunset(long fixed) {
+    double midnight = JulianDay.fromFixed(fixed);
+    double sunset = midnight + 0.75 - (_tehranLongitude / 360.0);
+    for (int i = 0; i < 2; ++i) {
+      double[] sun = Meeus.sunPosition(sunset);
+
+      // The equation of time, and the hour angle at which the upper limb
+      // of the sun, lowered by refraction, touches the horizon.
+      double eot = sun[0] - 0.0057183 - sun[10];
+      eot -= 360.0 * Math.floor((eot + 180.0) / 360.0);
+      double cosH = (dsin(-0.833) -
+        (dsin(_tehranLatitude) * dsin(sun[11]))) /
+        (dcos(_tehranLatitude) * dcos(sun[11]));
+      double hourAngle = rtd(Math.acos(cosH));
+
+      sunset = midnight + 0.5 +
+        ((hourAngle - _tehranLongitude - eot) / 360.0);
+    }
+    return sunset;
+  }
+
+  /**
+   * Cached Naw-Rúz day numbers, filled in as years are used.
+   * <p>
+   * The range of years defaults to 172 - 1221 (2015 - 3064 AD) and may be
+   * set at startup with the system properties "com.hm.cal.bahai.firstYear"
+   * and "com.hm.cal.bahai.lastYear". Years outside the range are computed
+   * on every call.
+   */
+  private static final class NawRuzTable {
+    static final int FIRST_YEAR =
+      Integer.getInteger("com.hm.cal.bahai.firstYear", 172);
+    static final int LAST_YEAR =
+      Integer.getInteger("com.hm.cal.bahai.lastYear", 1221);
+    static final int[] NAW_RUZ =
+      new int[Math.max(0, LAST_YEAR - FIRST_YEAR + 1)];
+  }
+
+  /**
+   * The published days of March of Naw-Rúz, loaded from a bundled resource
+   * the first time a published year is computed. Each line of the resource
+   * holds a year and its day of March; the years must be consecutive.
+   */
+  private static final class PublishedTable {
+    static final String RESOURCE = "naw-ruz.txt";
+    static final int FIRST_YEAR;
+    static final int LAST_YEAR;
+    static final byte[] MARCH_DAYS;
+
+    static {
+      List<String> years = new ArrayList<String>();
+      try (InputStream in = BahaiCalendar.class.getResourceAsStream(RESOURCE)) {
+        if (in == null)
+          throw new IllegalStateException("Missing resource " + RESOURCE);
+        BufferedReader reader =
+          new BufferedReader(new InputStreamReader(in, "UTF-8"));
+        String line;
+        while ((line = reader.readLine()) != null) {
+          line = line.trim();
+          if (line.isEmpty() || line.startsWith("#")) continue;
+          years.add(line);
+        }
+      } catch (IOException e) {
+        throw new IllegalStateException("Unable to read " + RESOURCE, e);
+      }
+
+      FIRST_YEAR = Integer.parseInt(years.get(0).split("\\s+")[0]);
+      LAST_YEAR = FIRST_YEAR + years.size() - 1;
+      MARCH_DAYS = new byte[years.size()];
+      for (int i = 0; i < MARCH_DAYS.length; ++i) {
+        String[] fields = years.get(i).split("\\s+");
+        if (Integer.parseInt(fields[0]) != FIRST_YEAR + i)
+          throw new IllegalStateException("Year out of order in " + RESOURCE +
+            ": " + fields[0]);
+        MARCH_DAYS[i] = Byte.parseByte(fields[1]);
+      }
+    }
+  }
+}
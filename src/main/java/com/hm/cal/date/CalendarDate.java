@@ -0,0 +1,285 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.PackedDate;
+
+import java.io.Serializable;
+
+import static com.hm.cal.util.Util.floorMod;
+
+/**
+ * An immutable date in any calendar.
+ * <p>
+ * An {@link Almanac} can be changed through its setters, so it cannot be
+ * shared safely. A calendar date is the immutable counterpart: its
+ * calendar, its fixed day number and its date are computed once at
+ * construction and never change. Comparisons, week days and conversions
+ * all reuse the fixed day number, so calendar dates can be shared freely
+ * between threads and kept in caches.
+ * <p>
+ * The year, month and day are those of the calendar's
+ * {@link com.hm.cal.system.CalendarSystem}. Use {@link #toAlmanac()} for the
+ * full date, such as a Japanese era or a Maya Long Count.
+ * <p>
+ * A calendar date keeps only the calendar identifier, so a variant with no
+ * calendar system of its own cannot be represented. Astronomical Islamic
+ * dates and civil Islamic dates with a leap year rule other than
+ * {@link IslamicCalendar.LeapYearRule#WEST_ISLAMIC} are rejected.
+ *
+ * @since 2026.10.16
+ */
+public final class CalendarDate implements Comparable<CalendarDate>,
+  Serializable {
+
+  private static final long serialVersionUID = 1L;
+  private final CalendarId _id;
+  private final long _fixed;
+  private final long _date;
+
+  /**
+   * Gets the calendar date of an Almanac.
+   *
+   * @param a an Almanac.
+   * @return the calendar date.
+   * @throws IllegalArgumentException if the Almanac is not backed by a
+   *                                  calendar system, or is a variant that
+   *                                  its calendar system cannot rebuild.
+   */
+  public static CalendarDate of(Almanac a) {
+    CalendarSystem system = a.getCalendarSystem();
+    if (system == null)
+      throw new IllegalArgumentException("Not backed by a calendar system: " +
+        a.getName());
+    if (a instanceof IslamicCalendar && !isSupported((IslamicCalendar) a))
+      throw new IllegalArgumentException("Unsupported Islamic variant: " +
+        ((IslamicCalendar) a).getCalendarType() + ", " +
+        ((IslamicCalendar) a).getLeapYearRule());
+    return ofFixed(system.getId(), system.toFixed(a));
+  }
+
+  /**
+   * Gets the calendar date of a year, month and day.
+   *
+   * @param id    a calendar identifier.
+   * @param year  a year.
+   * @param month a month.
+   * @param day   a day.
+   * @return the calendar date.
+   */
+  public static CalendarDate of(CalendarId id, int year, int month, int day) {
+    return ofFixed(id, CalendarSystems.get(id).toFixed(year, month, day));
+  }
+
+  /**
+   * Gets the calendar date of a fixed day number.
+   *
+   * @param id    a calendar identifier.
+   * @param fixed a fixed day number.
+   * @return the calendar date.
+   */
+  public static CalendarDate ofFixed(CalendarId id, long fixed) {
+    return new CalendarDate(id, fixed);
+  }
+
+  /**
+   * Gets the calendar identifier.
+   *
+   * @return the calendar identifier.
+   */
+  public CalendarId getCalendarId() {
+    return _id;
+  }
+
+  /**
+   * Gets the fixed day number.
+   *
+   * @return the fixed day number.
+   */
+  public long getFixed() {
+    return _fixed;
+  }
+
+  /**
+   * Gets the year.
+   *
+   * @return the year.
+   */
+  public int getYear() {
+    return PackedDate.getYear(_date);
+  }
+
+  /**
+   * Gets the month.
+   *
+   * @return the month.
+   */
+  public int getMonth() {
+    return PackedDate.getMonth(_date);
+  }
+
+  /**
+   * Gets the day.
+   *
+   * @return the day.
+   */
+  public int getDay() {
+    return PackedDate.getDay(_date);
+  }
+
+  /**
+   * Gets the weekday.
+   * Soviet dates use the week in use on the day; see
+   * {@link SovietCalendar#getWeekDayNumber(long)}. Every other calendar uses
+   * the 7-day week starting at Sunday (0) and ending on Saturday (6).
+   *
+   * @return the weekday.
+   */
+  public int getWeekDayNumber() {
+    if (_id == CalendarId.SOVIET || _id == CalendarId.SOVIET_REVOLUTIONARY)
+      return SovietCalendar.getWeekDayNumber(_fixed);
+    return (int) floorMod(_fixed + 1, 7);
+  }
+
+  /**
+   * Gets the calendar date a number of days from this date.
+   *
+   * @param days a number of days, which may be negative.
+   * @return the calendar date.
+   */
+  public CalendarDate plusDays(long days) {
+    return (days == 0) ? this : new CalendarDate(_id, _fixed + days);
+  }
+
+  /**
+   * Gets this day in another calendar.
+   *
+   * @param id a calendar identifier.
+   * @return the calendar date.
+   */
+  public CalendarDate to(CalendarId id) {
+    return (id == _id) ? this : new CalendarDate(id, _fixed);
+  }
+
+  /**
+   * Constructs a new Almanac set to this date.
+   * The Almanac is a copy, and changing it does not change this date.
+   *
+   * @return the Almanac.
+   */
+  public Almanac toAlmanac() {
+    return CalendarSystems.get(_id).toAlmanac(_fixed);
+  }
+
+  /**
+   * Determines whether this date is the same day as another date in any
+   * calendar.
+   *
+   * @param date a calendar date.
+   * @return true, if the same day; false, otherwise.
+   */
+  public boolean isSameDay(CalendarDate date) {
+    return _fixed == date.getFixed();
+  }
+
+  /**
+   * Determines if this date comes before a given date.
+   *
+   * @param date a calendar date.
+   * @return true, if before; false, otherwise.
+   */
+  public boolean isBefore(CalendarDate date) {
+    return _fixed < date.getFixed();
+  }
+
+  /**
+   * Determines if this date comes after a given date.
+   *
+   * @param date a calendar date.
+   * @return true, if after; false, otherwise.
+   */
+  public boolean isAfter(CalendarDate date) {
+    return _fixed > date.getFixed();
+  }
+
+  /**
+   * Compares two dates, in any calendars, by day and then by calendar, so
+   * that the order is consistent with {@link #equals(Object)}. Use
+   * {@link #isSameDay(CalendarDate)} to compare days alone.
+   *
+   * @param date a calendar date.
+   * @return a negative number, zero or a positive number, if this date
+   * comes before, equals or comes after the given date.
+   */
+  @Override
+  public int compareTo(CalendarDate date) {
+    if (_fixed != date.getFixed())
+      return (_fixed < date.getFixed()) ? -1 : 1;
+    int id = _id.ordinal() - date.getCalendarId().ordinal();
+    return (id == 0) ? 0 : ((id < 0) ? -1 : 1);
+  }
+
+  @Override
+  public String toString() {
+    return toAlmanac().toString();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof CalendarDate))
+      return false;
+    if (obj == this)
+      return true;
+
+    final CalendarDate date = (CalendarDate) obj;
+    return _fixed == date._fixed && _id == date._id;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (int) (_fixed ^ (_fixed >>> 32)) + _id.ordinal();
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  private CalendarDate(CalendarId id, long fixed) {
+    _id = id;
+    _fixed = fixed;
+    _date = CalendarSystems.get(id).fromFixed(fixed);
+  }
+
+  /**
+   * Determines if an Islamic date converts like its calendar system.
+   * The Umm al-Qura table does not use a leap year rule.
+   *
+   * @param a an Islamic date.
+   * @return true, if supported; false, otherwise.
+   */
+  private static boolean isSupported(IslamicCalendar a) {
+    switch (a.getCalendarType()) {
+      case UMM_AL_QURA:
+        return true;
+      case CIVIL:
+        return a.getLeapYearRule() == IslamicCalendar.LeapYearRule.WEST_ISLAMIC;
+      default:
+        return false;
+    }
+  }
+}
@@ -0,0 +1,593 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import com.hm.cal.astro.Meeus;
+import com.hm.cal.astro.Season;
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.constants.CalendarConstants.ChineseCalendarConstants.*;
+import static com.hm.cal.util.AlmanacConverter.toChineseCalendar;
+import static com.hm.cal.util.PackedDate.pack;
+import static com.hm.cal.util.Util.floorMod;
+
+/**
+ * A date in the Chinese calendar.
+ * <p>
+ * The Chinese calendar is a lunisolar calendar. Each month begins on the day
+ * of a new moon, as observed in Beijing, so months are 29 or 30 days long.
+ * The winter solstice always falls in the eleventh month. When 13 new moons
+ * begin between one eleventh month and the next, the first month without a
+ * major solar term (a multiple of 30 degrees of solar longitude) is a leap
+ * month and repeats the number of the month before it.
+ * <p>
+ * Years are identified here by the Gregorian year in which they begin, and
+ * months are counted in order through the year [1-13]; use
+ * {@link #getMonthNumber()} and {@link #isLeapMonth()} for the traditional
+ * month. Years are also named in the 60-year cycle of celestial stems and
+ * earthly branches.
+ * <p>
+ * The new moons and solar terms of each year are computed once and cached
+ * in a {@link ChineseYearProfile}; conversions only read the profile.
+ *
+ * @since 2026.10.16
+ */
+public class ChineseCalendar extends MemoizedAlmanac {
+
+  public static final String CALENDAR_NAME = "Chinese Calendar";
+
+  // The mean synodic month, and the Julian Day of the new moon that Meeus
+  // numbers lunation zero.
+  private static final double _synodicMonth = 29.530588853;
+  private static final double _lunationEpoch = 2451550.09765;
+
+  /**
+   * Constructs a Chinese date set to today's date.
+   */
+  public ChineseCalendar() {
+    this(new JulianDay());
+  }
+
+  /**
+   * Constructs a Chinese date from an Almanac.
+   *
+   * @param a an Almanac.
+   */
+  public ChineseCalendar(Almanac a) {
+    this(toChineseCalendar(a));
+  }
+
+  /**
+   * Constructs a Chinese date from another Chinese date.
+   *
+   * @param date a Chinese date.
+   */
+  public ChineseCalendar(ChineseCalendar date) {
+    this(date.getYear(), date.getMonth(), date.getDay());
+  }
+
+  /**
+   * Constructs a Chinese date.
+   *
+   * @param year  the Gregorian year in which the Chinese year begins.
+   * @param month a month, counted through the year [1-13].
+   * @param day   a day.
+   */
+  public ChineseCalendar(int year, int month, int day) {
+    super();
+    this.year = year;
+    this.month = month;
+    this.day = day;
+  }
+
+  /**
+   * Returns today's date as a string.
+   * Convenience static method.
+   *
+   * @return today's date.
+   */
+  public static String asToday() {
+    return (new ChineseCalendar()).toString();
+  }
+
+  /**
+   * Converts a date to its fixed day number.
+   *
+   * @param year  a year.
+   * @param month a month, counted through the year [1-13].
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day) {
+    ChineseYearProfile profile = getYearProfile(year);
+    return profile.getNewYear() + profile.getMonthStart(month) + (day - 1);
+  }
+
+  /**
+   * Converts a fixed day number to a date.
+   *
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}, with
+   * the month counted through the year.
+   */
+  public static long fromFixed(long fixed) {
+    int year = PackedDate.getYear(GregorianCalendar.fromFixed(fixed));
+    ChineseYearProfile profile = getYearProfile(year);
+    if (fixed < profile.getNewYear())
+      profile = getYearProfile(--year);
+
+    int yearDay = (int) (fixed - profile.getNewYear());
+    int month = profile.getMonth(yearDay);
+    return pack(year, month, yearDay - profile.getMonthStart(month) + 1);
+  }
+
+  /**
+   * Gets the profile of a given year.
+   * Profiles are cached, so repeated calls for a year do not allocate.
+   *
+   * @param year a year.
+   * @return the year profile.
+   */
+  public static ChineseYearProfile getYearProfile(int year) {
+    int i = year - YearTable.FIRST_YEAR;
+    if (i < 0 || i >= YearTable.PROFILES.length)
+      return newYearProfile(year);
+
+    // Profiles are immutable, with final fields, so they are safe to
+    // publish through a plain array without a lock.
+    ChineseYearProfile profile = YearTable.PROFILES[i];
+    if (profile == null) {
+      profile = newYearProfile(year);
+      YearTable.PROFILES[i] = profile;
+    }
+    return profile;
+  }
+
+  /**
+   * Gets the number of months in a given year.
+   *
+   * @param year a year.
+   * @return the number of months in the year.
+   */
+  public static int getNumberOfMonthsInYear(int year) {
+    return getYearProfile(year).getNumberOfMonths();
+  }
+
+  /**
+   * Gets the number of days in a given month in a given year.
+   *
+   * @param year  a year.
+   * @param month a month, counted through the year [1-13].
+   * @return the number of days in the month.
+   */
+  public static int getNumberOfDaysInMonth(int year, int month) {
+    return getYearProfile(year).getNumberOfDaysInMonth(month);
+  }
+
+  /**
+   * Determines whether a given year has a leap month.
+   *
+   * @param year a year.
+   * @return true, if a leap year; false, otherwise.
+   */
+  public static boolean isLeapYear(int year) {
+    return getYearProfile(year).isLeapYear();
+  }
+
+  /**
+   * Gets the name of a month.
+   *
+   * @param number a month number [1-12].
+   * @param leap   true, if a leap month.
+   * @return the name of the month.
+   */
+  public static String getMonthName(int number, boolean leap) {
+    return leap ? "Run " + monthNames[number - 1] : monthNames[number - 1];
+  }
+
+  /**
+   * Gets the name of a year in the 60-year cycle, e.g. "Jia-Zi".
+   *
+   * @param year a year.
+   * @return the name of the year.
+   */
+  public static String getYearName(int year) {
+    return celestialStems[(int) floorMod(year - 4, 10)] + "-" +
+      earthlyBranches[(int) floorMod(year - 4, 12)];
+  }
+
+  /**
+   * Gets the zodiac animal of a year.
+   *
+   * @param year a year.
+   * @return the zodiac animal.
+   */
+  public static String getZodiac(int year) {
+    return zodiacAnimals[(int) floorMod(year - 4, 12)];
+  }
+
+  /**
+   * Gets the name of a solar term.
+   *
+   * @param term a solar term [1-24], beginning with Lichun.
+   * @return the name of the solar term.
+   */
+  public static String getSolarTermName(int term) {
+    return solarTermNames[term - 1];
+  }
+
+  /**
+   * Gets the traditional number of this month [1-12].
+   *
+   * @return the month number.
+   */
+  public int getMonthNumber() {
+    return getYearProfile(this.year).getMonthNumber(this.month);
+  }
+
+  /**
+   * Determines whether this month is a leap month.
+   *
+   * @return true, if a leap month; false, otherwise.
+   */
+  public boolean isLeapMonth() {
+    return getYearProfile(this.year).isLeapMonth(this.month);
+  }
+
+  /**
+   * Determines whether this year has a leap month.
+   *
+   * @return true, if a leap year; false, otherwise.
+   */
+  public boolean isLeapYear() {
+    return ChineseCalendar.isLeapYear(this.year);
+  }
+
+  /**
+   * Gets the name of this month.
+   *
+   * @return the name of this month.
+   */
+  public String getMonthName() {
+    ChineseYearProfile profile = getYearProfile(this.year);
+    return getMonthName(profile.getMonthNumber(this.month),
+      profile.isLeapMonth(this.month));
+  }
+
+  /**
+   * Gets the name of this year in the 60-year cycle.
+   *
+   * @return the name of this year.
+   */
+  public String getYearName() {
+    return ChineseCalendar.getYearName(this.year);
+  }
+
+  /**
+   * Gets the zodiac animal of this year.
+   *
+   * @return the zodiac animal.
+   */
+  public String getZodiac() {
+    return ChineseCalendar.getZodiac(this.year);
+  }
+
+  /**
+   * Gets the date.
+   *
+   * @return the date.
+   */
+  @Override
+  public String getDate() {
+    return new String(getDay() + " " +
+      getMonthName() + ", " +
+      getYearName() + " (" + getYear() + ")");
+  }
+
+  @Override
+  public String getName() {
+    return CALENDAR_NAME;
+  }
+
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    return CalendarSystems.get(CalendarId.CHINESE);
+  }
+
+  /**
+   * Gets the month names.
+   *
+   * @return an array[12] containing the month names.
+   */
+  @Override
+  public String[] getMonths() {
+    return monthNames.clone();
+  }
+
+  /**
+   * Gets the week day names.
+   *
+   * @return an array[7] containing the week day names.
+   */
+  @Override
+  public String[] getWeekDays() {
+    return weekDayNames.clone();
+  }
+
+  /**
+   * Gets the name for this week day.
+   *
+   * @return the name for this week day.
+   */
+  @Override
+  public String getWeekDay() {
+    return weekDayNames[getWeekDayNumber()];
+  }
+
+  /**
+   * Gets the number of days in this month.
+   *
+   * @return the number of days in this month.
+   */
+  @Override
+  public int getNumberOfDaysInMonth() {
+    return ChineseCalendar.getNumberOfDaysInMonth(this.year, this.month);
+  }
+
+  /**
+   * Gets the number of days in a week.
+   *
+   * @return the number of days in a week.
+   */
+  @Override
+  public int getNumberOfDaysInWeek() {
+    return 7;
+  }
+
+  /**
+   * Gets the number of months in this year.
+   *
+   * @return the number of months in this year.
+   */
+  @Override
+  public int getNumberOfMonthsInYear() {
+    return ChineseCalendar.getNumberOfMonthsInYear(this.year);
+  }
+
+  /**
+   * Sets this calendar using another Almanac.
+   *
+   * @param a an Almanac.
+   */
+  @Override
+  public void set(Almanac a) {
+    long date = fromFixed(AlmanacConverter.toFixed(a));
+    this.year = PackedDate.getYear(date);
+    this.month = PackedDate.getMonth(date);
+    this.day = PackedDate.getDay(date);
+  }
+
+  @Override
+  public String toString() {
+    return new String(CALENDAR_NAME + ": " + getDate());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof ChineseCalendar))
+      return false;
+    if (obj == this)
+      return true;
+
+    final ChineseCalendar date = (ChineseCalendar) obj;
+    return hasSameDate(date);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashDate();
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  /**
+   * Computes the profile of a given year.
+   * <p>
+   * The year runs from the first month of the suì (the months from one
+   * eleventh month to the next) that ends in its Gregorian year to the
+   * first month of the following suì.
+   *
+   * @param year a year.
+   * @return a new year profile.
+   */
+  private static ChineseYearProfile newYearProfile(int year) {
+    long[] sui = sui(year);
+    long[] next = sui(year + 1);
+    int first = firstMonth(sui);
+    int last = firstMonth(next);
+    int leap = (int) sui[0];
+    int nextLeap = (int) next[0];
+
+    // Both suì arrays hold the leap index followed by the month starts.
+    int months = (sui.length - 2 - first) + last;
+    long newYear = sui[first + 1];
+    int[] starts = new int[months + 1];
+    for (int i = 0; i <= months; ++i) {
+      int j = first + i;
+      long start = (j < sui.length - 2) ?
+        sui[j + 1] : next[j - (sui.length - 2) + 1];
+      starts[i] = (int) (start - newYear);
+    }
+
+    int leapMonth = 0;
+    if (leap > first)
+      leapMonth = leap - first + 1;
+    else if (nextLeap > 0 && nextLeap < last)
+      leapMonth = (sui.length - 2 - first) + nextLeap + 1;
+
+    long[] terms = new long[24];
+    for (int i = 0; i < terms.length; ++i) {
+      int longitude = (315 + (15 * i)) % 360;
+      terms[i] = solarTerm((i < 22) ? year : year + 1, longitude);
+    }
+    return new ChineseYearProfile(year, newYear, starts, leapMonth, terms);
+  }
+
+  /**
+   * Computes the months of the suì that ends with the winter solstice of a
+   * given Gregorian year.
+   *
+   * @param year a Gregorian year.
+   * @return an array holding the index of the leap month (or -1), followed
+   * by the first day of each month from the eleventh month containing the
+   * previous solstice to the eleventh month containing this one.
+   */
+  private static long[] sui(int year) {
+    long solstice = solarTerm(year - 1, 270);
+    long nextSolstice = solarTerm(year, 270);
+    long k = newMoonOnOrBefore(solstice);
+    int months = (int) (newMoonOnOrBefore(nextSolstice) - k);
+
+    long[] sui = new long[months + 2];
+    sui[0] = -1;
+    for (int i = 0; i <= months; ++i)
+      sui[i + 1] = newMoon(k + i);
+
+    // In a leap suì, the first month without a major solar term is leap.
+    if (months == 13) {
+      long[] major = new long[13];
+      major[0] = solstice;
+      for (int i = 1; i < major.length; ++i)
+        major[i] = solarTerm(year, (270 + (30 * i)) % 360);
+      for (int i = 0; i < months && sui[0] < 0; ++i) {
+        boolean found = false;
+        for (long term : major)
+          found |= (sui[i + 1] <= term && term < sui[i + 2]);
+        if (!found)
+          sui[0] = i;
+      }
+    }
+    return sui;
+  }
+
+  /**
+   * Gets the index within a suì of its first month (the month after the
+   * twelfth), skipping a leap eleventh or twelfth month.
+   *
+   * @param sui the months of a suì.
+   * @return the index of the first month.
+   */
+  private static int firstMonth(long[] sui) {
+    long leap = sui[0];
+    return (leap == 1 || leap == 2) ? 3 : 2;
+  }
+
+  /**
+   * Gets the lunation whose new moon falls on or before a given day.
+   *
+   * @param fixed a fixed day number.
+   * @return the lunation number.
+   */
+  private static long newMoonOnOrBefore(long fixed) {
+    long k = (long) Math.floor((fixed - _lunationEpoch) / _synodicMonth);
+    while (newMoon(k) > fixed)
+      k--;
+    while (newMoon(k + 1) <= fixed)
+      k++;
+    return k;
+  }
+
+  /**
+   * Computes the day of a new moon in Beijing.
+   *
+   * @param k a lunation number.
+   * @return the fixed day number of the new moon.
+   */
+  private static long newMoon(long k) {
+    // The quarters are shifted back by the 58.184 seconds of dynamical time
+    // at J2000; restore them before applying the correction for the year.
+    double jde = Meeus.getMoonQuarters((double) k)[0];
+    return toBeijingDay(jde + (58.184 / 86400.0), yearOf(jde));
+  }
+
+  /**
+   * Computes the day in Beijing on which the sun reaches a given apparent
+   * longitude.
+   *
+   * @param year      a Gregorian year.
+   * @param longitude a solar longitude in degrees, which the sun reaches
+   *                  between 285 degrees (early January) and 270 degrees
+   *                  (late December) of the year.
+   * @return the fixed day number of the solar term.
+   */
+  private static long solarTerm(int year, int longitude) {
+    double days = Meeus.TROPICAL_YEAR / 360.0;
+    double jde = Meeus.equinox(year, Season.SPRING) +
+      (((longitude >= 285) ? longitude - 360 : longitude) * days);
+    for (int i = 0; i < 4; ++i) {
+      double delta = longitude - Meeus.sunPosition(jde)[7];
+      delta -= 360.0 * Math.floor((delta + 180.0) / 360.0);
+      jde += delta * days;
+    }
+    return toBeijingDay(jde, year);
+  }
+
+  /**
+   * Converts a moment in dynamical time to a day in Beijing.
+   * Beijing used local mean time (UT+7:45:40) before 1929 and UT+8 after.
+   *
+   * @param jde  a Julian Ephemeris Day.
+   * @param year the Gregorian year of the moment.
+   * @return the fixed day number.
+   */
+  private static long toBeijingDay(double jde, int year) {
+    double hours = (year < 1929) ? (1397.0 / 180.0) : 8.0;
+    double jd = jde - (Meeus.deltat(year) / 86400.0) + (hours / 24.0);
+    return JulianDay.toFixed(jd);
+  }
+
+  /**
+   * Gets the approximate Gregorian year of a Julian Day.
+   *
+   * @param jd a Julian Day.
+   * @return the year.
+   */
+  private static int yearOf(double jd) {
+    return (int) Math.floor(2000.0 + ((jd - Meeus.J2000) / 365.2425));
+  }
+
+  /**
+   * Cached year profiles, filled in as years are used.
+   * <p>
+   * The range of years defaults to 1645 (when the current rules were
+   * adopted) - 2644 and may be set at startup with the system properties
+   * "com.hm.cal.chinese.firstYear" and "com.hm.cal.chinese.lastYear". Years
+   * outside the range are computed on every call.
+   */
+  private static final class YearTable {
+    static final int FIRST_YEAR =
+      Integer.getInteger("com.hm.cal.chinese.firstYear", 1645);
+    static final int LAST_YEAR =
+      Integer.getInteger("com.hm.cal.chinese.lastYear", 2644);
+    static final ChineseYearProfile[] PROFILES =
+      new ChineseYearProfile[Math.max(0, LAST_YEAR - FIRST_YEAR + 1)];
+  }
+}
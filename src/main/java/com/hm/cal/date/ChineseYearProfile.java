@@ -0,0 +1,204 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+/**
+ * The shape of a single Chinese year.
+ * <p>
+ * A profile holds the day on which a year begins, the day on which each of
+ * its months begins (the day of each new moon in Beijing), which month, if
+ * any, is a leap month, and the days of the 24 solar terms. Profiles are
+ * immutable and are cached by {@link ChineseCalendar#getYearProfile(int)},
+ * so the astronomy behind a year is computed once, not on every conversion.
+ * <p>
+ * Months are counted in order through the year [1-13]. In a leap year the
+ * leap month repeats the number of the month before it.
+ *
+ * @since 2026.10.16
+ */
+public final class ChineseYearProfile {
+
+  private final int _year;
+  private final long _newYear;
+  private final int[] _starts;
+  private final int _leapMonth;
+  private final long[] _solarTerms;
+
+  /**
+   * Constructs a Chinese year profile.
+   *
+   * @param year       a year.
+   * @param newYear    the fixed day number of the first day of the year.
+   * @param starts     the days from the new year to the start of each month,
+   *                   followed by the length of the year.
+   * @param leapMonth  the leap month [1-13]; or 0 if there is none.
+   * @param solarTerms the fixed day numbers of the 24 solar terms.
+   */
+  ChineseYearProfile(int year, long newYear, int[] starts, int leapMonth,
+                     long[] solarTerms) {
+    _year = year;
+    _newYear = newYear;
+    _starts = starts;
+    _leapMonth = leapMonth;
+    _solarTerms = solarTerms;
+  }
+
+  /**
+   * Gets the year.
+   *
+   * @return the year.
+   */
+  public int getYear() {
+    return _year;
+  }
+
+  /**
+   * Gets the fixed day number of the first day of the year.
+   *
+   * @return the fixed day number.
+   */
+  public long getNewYear() {
+    return _newYear;
+  }
+
+  /**
+   * Gets the number of days in the year.
+   *
+   * @return the number of days in the year.
+   */
+  public int getNumberOfDays() {
+    return _starts[_starts.length - 1];
+  }
+
+  /**
+   * Determines whether the year has a leap month.
+   *
+   * @return true, if a leap year; false, otherwise.
+   */
+  public boolean isLeapYear() {
+    return _leapMonth != 0;
+  }
+
+  /**
+   * Gets the number of months in the year.
+   *
+   * @return the number of months in the year.
+   */
+  public int getNumberOfMonths() {
+    return _starts.length - 1;
+  }
+
+  /**
+   * Gets the leap month.
+   *
+   * @return the leap month [1-13]; or 0 if the year has none.
+   */
+  public int getLeapMonth() {
+    return _leapMonth;
+  }
+
+  /**
+   * Determines whether a month is the leap month.
+   *
+   * @param month a month [1-13].
+   * @return true, if the leap month; false, otherwise.
+   */
+  public boolean isLeapMonth(int month) {
+    return month == _leapMonth;
+  }
+
+  /**
+   * Gets the traditional number of a month.
+   * A leap month has the number of the month before it.
+   *
+   * @param month a month [1-13].
+   * @return the month number [1-12].
+   */
+  public int getMonthNumber(int month) {
+    return (_leapMonth != 0 && month >= _leapMonth) ? month - 1 : month;
+  }
+
+  /**
+   * Gets the month with a given traditional number.
+   *
+   * @param number a month number [1-12].
+   * @param leap   true, for the leap month with that number.
+   * @return the month [1-13]; or 0 if there is no such leap month.
+   */
+  public int getMonth(int number, boolean leap) {
+    if (leap)
+      return (_leapMonth != 0 && _leapMonth - 1 == number) ? _leapMonth : 0;
+    return (_leapMonth != 0 && number >= _leapMonth) ? number + 1 : number;
+  }
+
+  /**
+   * Gets the number of days in a month.
+   *
+   * @param month a month [1-13].
+   * @return the number of days in the month.
+   */
+  public int getNumberOfDaysInMonth(int month) {
+    return _starts[month] - _starts[month - 1];
+  }
+
+  /**
+   * Gets the number of days from the new year to the start of a month.
+   *
+   * @param month a month [1-13].
+   * @return the number of days before the month.
+   */
+  public int getMonthStart(int month) {
+    return _starts[month - 1];
+  }
+
+  /**
+   * Gets the month that contains a day of the year.
+   *
+   * @param yearDay the number of days since the new year.
+   * @return the month [1-13].
+   */
+  public int getMonth(int yearDay) {
+    int month = 1;
+    while (month < _starts.length - 1 && yearDay >= _starts[month])
+      month++;
+    return month;
+  }
+
+  /**
+   * Gets the fixed day number of a solar term.
+   * The terms begin with Lichun (the sun at 315 degrees), early in
+   * February of the year, and end with Dahan (300 degrees) in January of
+   * the following year.
+   *
+   * @param term a solar term [1-24].
+   * @return the fixed day number of the solar term.
+   */
+  public long getSolarTerm(int term) {
+    return _solarTerms[term - 1];
+  }
+
+  /**
+   * Gets the lengths of the months of the year.
+   *
+   * @return an array of month lengths.
+   */
+  public int[] getDaysPerMonth() {
+    int[] days = new int[_starts.length - 1];
+    for (int i = 0; i < days.length; ++i)
+      days[i] = _starts[i + 1] - _starts[i];
+    return days;
+  }
+}
@@ -0,0 +1,331 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.constants.CalendarConstants.CopticCalendarConstants.monthNames;
+import static com.hm.cal.constants.CalendarConstants.CopticCalendarConstants.weekDayNames;
+import static com.hm.cal.util.AlmanacConverter.toCopticCalendar;
+import static com.hm.cal.util.PackedDate.pack;
+import static com.hm.cal.util.Util.floorDiv;
+import static com.hm.cal.util.Util.floorMod;
+
+/**
+ * A date in the Coptic calendar.
+ * <p>
+ * The Coptic calendar is used by the Coptic Orthodox Church and descends
+ * from the ancient Egyptian calendar. Years are counted in the Era of the
+ * Martyrs, beginning with the accession of Diocletian on August 29, 284 AD
+ * (Julian).
+ * <p>
+ * Each year has 12 months of 30 days followed by a short thirteenth month
+ * of 5 days, or 6 days in leap years. As in the Julian calendar, every
+ * fourth year is a leap year; in the Coptic calendar these are the years
+ * that leave a remainder of 3 when divided by 4.
+ *
+ * @since 2026.10.16
+ */
+public class CopticCalendar extends Almanac {
+
+  public static final String CALENDAR_NAME = "Coptic Calendar";
+  public static final JulianDay EPOCH = JulianDay.constant(1825029.5);
+  private static final long _fixedEpoch = JulianDay.toFixed(EPOCH.getValue());
+
+  /**
+   * Constructs a Coptic date set to today's date.
+   */
+  public CopticCalendar() {
+    this(new JulianDay());
+  }
+
+  /**
+   * Constructs a Coptic date from an Almanac.
+   *
+   * @param a an Almanac.
+   */
+  public CopticCalendar(Almanac a) {
+    this(toCopticCalendar(a));
+  }
+
+  /**
+   * Constructs a Coptic date from another Coptic date.
+   *
+   * @param date a Coptic date.
+   */
+  public CopticCalendar(CopticCalendar date) {
+    this(date.getYear(), date.getMonth(), date.getDay());
+  }
+
+  /**
+   * Constructs a Coptic date.
+   *
+   * @param year  a year.
+   * @param month a month [1-13].
+   * @param day   a day.
+   */
+  public CopticCalendar(int year, int month, int day) {
+    super();
+    this.year = year;
+    this.month = month;
+    this.day = day;
+  }
+
+  /**
+   * Returns today's date as a string.
+   * Convenience static method.
+   *
+   * @return today's date.
+   */
+  public static String asToday() {
+    return (new CopticCalendar()).toString();
+  }
+
+  /**
+   * Determines whether a given year is a leap year.
+   *
+   * @param year a year.
+   * @return true, if a leap year; false, otherwise.
+   */
+  public static boolean isLeapYear(int year) {
+    return floorMod(year, 4) == 3;
+  }
+
+  /**
+   * Gets the number of days in a given month in a given year.
+   *
+   * @param year  a year.
+   * @param month a month [1-13].
+   * @return the number of days in the month.
+   */
+  public static int getNumberOfDaysInMonth(int year, int month) {
+    if (month != 13) return 30;
+    return isLeapYear(year) ? 6 : 5;
+  }
+
+  /**
+   * Gets a month name.
+   *
+   * @param month a month number [1-13].
+   * @return a month name.
+   * @throws IndexOutOfBoundsException
+   */
+  public static String getMonthName(int month)
+    throws IndexOutOfBoundsException {
+    return monthNames[month - 1];
+  }
+
+  /**
+   * Converts a date to its fixed day number.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param year  a year.
+   * @param month a month [1-13].
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day) {
+    return toFixed(_fixedEpoch, year, month, day);
+  }
+
+  /**
+   * Converts a fixed day number to a date.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed) {
+    return fromFixed(_fixedEpoch, fixed);
+  }
+
+  /**
+   * Gets this month's name.
+   *
+   * @return the name of this month.
+   */
+  public String getMonthName() {
+    return CopticCalendar.getMonthName(this.month);
+  }
+
+  /**
+   * Determines whether this date's year is a leap year.
+   *
+   * @return true, if this is a leap year; false, otherwise.
+   */
+  public boolean isLeapYear() {
+    return CopticCalendar.isLeapYear(this.year);
+  }
+
+  /**
+   * Gets the date.
+   *
+   * @return the date.
+   */
+  @Override
+  public String getDate() {
+    return new String(getDay() + " " +
+      getMonthName() + ", " +
+      getYear());
+  }
+
+  /**
+   * Gets the name of this calendar.
+   *
+   * @return the name of this calendar.
+   */
+  @Override
+  public String getName() {
+    return CALENDAR_NAME;
+  }
+
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    return CalendarSystems.get(CalendarId.COPTIC);
+  }
+
+  /**
+   * Gets the month names.
+   *
+   * @return an array[13] containing the month names.
+   */
+  @Override
+  public String[] getMonths() {
+    return monthNames.clone();
+  }
+
+  /**
+   * Gets the week day names.
+   *
+   * @return an array[7] containing the week day names.
+   */
+  @Override
+  public String[] getWeekDays() {
+    return weekDayNames.clone();
+  }
+
+  /**
+   * Gets the name for this week day.
+   *
+   * @return the name for this week day.
+   */
+  @Override
+  public String getWeekDay() {
+    return weekDayNames[getWeekDayNumber()];
+  }
+
+  /**
+   * Gets the number of days in this month.
+   *
+   * @return the number of days in this month.
+   */
+  @Override
+  public int getNumberOfDaysInMonth() {
+    return CopticCalendar.getNumberOfDaysInMonth(this.year, this.month);
+  }
+
+  /**
+   * Gets the number of days in a week.
+   *
+   * @return the number of days in a week.
+   */
+  @Override
+  public int getNumberOfDaysInWeek() {
+    return 7;
+  }
+
+  /**
+   * Gets the number of months in a year.
+   *
+   * @return the number of months in a year.
+   */
+  @Override
+  public int getNumberOfMonthsInYear() {
+    return 13;
+  }
+
+  /**
+   * Sets this calendar using another Almanac.
+   *
+   * @param a an Almanac.
+   */
+  @Override
+  public void set(Almanac a) {
+    long date = fromFixed(AlmanacConverter.toFixed(a));
+    this.year = PackedDate.getYear(date);
+    this.month = PackedDate.getMonth(date);
+    this.day = PackedDate.getDay(date);
+  }
+
+  @Override
+  public String toString() {
+    return new String(CALENDAR_NAME + ": " + getDate());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof CopticCalendar))
+      return false;
+    if (obj == this)
+      return true;
+
+    final CopticCalendar date = (CopticCalendar) obj;
+    return hasSameDate(date);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashDate();
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// package-private
+
+  /**
+   * Converts a date to its fixed day number, counting years from a given
+   * epoch. The Ethiopian calendar shares these kernels.
+   *
+   * @param epoch the fixed day number of the first day of year 1.
+   * @param year  a year.
+   * @param month a month [1-13].
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  static long toFixed(long epoch, int year, int month, int day) {
+    return epoch - 1 + (365L * (year - 1)) + floorDiv(year, 4)
+      + (30 * (month - 1)) + day;
+  }
+
+  /**
+   * Converts a fixed day number to a date, counting years from a given
+   * epoch. The Ethiopian calendar shares these kernels.
+   *
+   * @param epoch the fixed day number of the first day of year 1.
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  static long fromFixed(long epoch, long fixed) {
+    int year = (int) floorDiv((4 * (fixed - epoch)) + 1463, 1461);
+    int days = (int) (fixed - toFixed(epoch, year, 1, 1));
+    return pack(year, (days / 30) + 1, (days % 30) + 1);
+  }
+}
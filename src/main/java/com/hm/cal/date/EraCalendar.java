@@ -0,0 +1,535 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
+
+import java.util.Arrays;
+
+import static com.hm.cal.constants.CalendarConstants.EraCalendarConstants.calendarNames;
+import static com.hm.cal.constants.CalendarConstants.EraCalendarConstants.japaneseEraNames;
+import static com.hm.cal.constants.CalendarConstants.GregorianCalendarConstants.monthNames;
+import static com.hm.cal.constants.CalendarConstants.GregorianCalendarConstants.weekDayNames;
+import static com.hm.cal.util.PackedDate.pack;
+
+/**
+ * A date in a calendar that shares the months and days of the Gregorian
+ * calendar but numbers its years differently.
+ * <p>
+ * Most of these calendars count years from a different epoch, so a year is
+ * the Gregorian year plus a fixed offset:
+ * <code>
+ * Calendar       | Year 1 | Offset
+ * Dangun         | 2333 BC | +2333
+ * Juche          | 1912    | -1911
+ * Minguo (ROC)   | 1912    | -1911
+ * Thai Buddhist  | 543 BC  | +543
+ * </code>
+ * <p>
+ * The Japanese calendar counts years within an era, which begins on the
+ * accession of an emperor. Eras are found from a sorted table of the days
+ * on which they begin. Dates before the Meiji era are not supported.
+ * <p>
+ * Every conversion is the proleptic Gregorian conversion plus an integer
+ * offset or a binary search of the era table.
+ *
+ * @since 2026.10.16
+ */
+public class EraCalendar extends Almanac {
+
+  private static final CalendarType[] _calendarTypes = CalendarType.values();
+  private static final JapaneseEra[] _eras = JapaneseEra.values();
+
+  // The calendar type and the Japanese era, packed into a single byte.
+  private byte _types;
+
+  /**
+   * The calendar type, and with it the year numbering.
+   */
+  public enum CalendarType {
+    DANGUN        (0),
+    JUCHE         (1),
+    MINGUO        (2),
+    THAI_BUDDHIST (3),
+    JAPANESE      (4);
+
+    private final int value;
+
+    private CalendarType(int value) {
+      this.value = value;
+    }
+
+    public int getValue() {
+      return value;
+    }
+  }
+
+  /**
+   * An era of the Japanese calendar.
+   */
+  public enum JapaneseEra {
+    MEIJI  (0),
+    TAISHO (1),
+    SHOWA  (2),
+    HEISEI (3),
+    REIWA  (4);
+
+    private final int value;
+
+    private JapaneseEra(int value) {
+      this.value = value;
+    }
+
+    public int getValue() {
+      return value;
+    }
+  }
+
+  /**
+   * Constructs a date of a given calendar type from an Almanac.
+   *
+   * @param a            an Almanac.
+   * @param calendarType a calendar type.
+   */
+  public EraCalendar(Almanac a, CalendarType calendarType) {
+    this(AlmanacConverter.toEraCalendar(a, calendarType));
+  }
+
+  /**
+   * Constructs a date from another date.
+   *
+   * @param date a date.
+   */
+  public EraCalendar(EraCalendar date) {
+    this(date.getYear(), date.getMonth(), date.getDay(),
+      date.getCalendarType(), date.getEra());
+  }
+
+  /**
+   * Constructs a date of a calendar type that counts years from an epoch.
+   *
+   * @param year         a year.
+   * @param month        a month [1-12].
+   * @param day          a day.
+   * @param calendarType a calendar type other than JAPANESE.
+   * @throws IllegalArgumentException if the calendar type is JAPANESE.
+   */
+  public EraCalendar(int year, int month, int day, CalendarType calendarType) {
+    this(year, month, day, calendarType, null);
+    if (getCalendarType() == CalendarType.JAPANESE)
+      throw new IllegalArgumentException("Japanese dates need an era");
+  }
+
+  /**
+   * Constructs a date in the Japanese calendar.
+   *
+   * @param era   an era.
+   * @param year  a year of the era.
+   * @param month a month [1-12].
+   * @param day   a day.
+   */
+  public EraCalendar(JapaneseEra era, int year, int month, int day) {
+    this(year, month, day, CalendarType.JAPANESE, era);
+  }
+
+  /**
+   * Gets the year offset of a calendar type.
+   *
+   * @param calendarType a calendar type other than JAPANESE.
+   * @return the number of years added to the Gregorian year.
+   */
+  public static int getYearOffset(CalendarType calendarType) {
+    switch (calendarType) {
+      case DANGUN:        return 2333;
+      case JUCHE:         return -1911;
+      case MINGUO:        return -1911;
+      case THAI_BUDDHIST: return 543;
+      default:
+        throw new IllegalArgumentException("No fixed offset: " + calendarType);
+    }
+  }
+
+  /**
+   * Gets the identifier of the calendar system of a calendar type.
+   *
+   * @param calendarType a calendar type.
+   * @return the calendar identifier.
+   */
+  public static CalendarId getCalendarId(CalendarType calendarType) {
+    switch (calendarType) {
+      case DANGUN:        return CalendarId.DANGUN;
+      case JUCHE:         return CalendarId.JUCHE;
+      case MINGUO:        return CalendarId.MINGUO;
+      case THAI_BUDDHIST: return CalendarId.THAI_BUDDHIST;
+      default:            return CalendarId.JAPANESE;
+    }
+  }
+
+  /**
+   * Converts a date of a calendar type that counts years from an epoch to
+   * its fixed day number.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param year         a year.
+   * @param month        a month [1-12].
+   * @param day          a day.
+   * @param calendarType a calendar type other than JAPANESE.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day,
+                             CalendarType calendarType) {
+    return GregorianCalendar.toFixed(
+      year - getYearOffset(calendarType), month, day);
+  }
+
+  /**
+   * Converts a Japanese date to its fixed day number.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param era   an era.
+   * @param year  a year of the era.
+   * @param month a month [1-12].
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  public static long toFixed(JapaneseEra era, int year, int month, int day) {
+    return GregorianCalendar.toFixed(toGregorianYear(era, year), month, day);
+  }
+
+  /**
+   * Converts a fixed day number to a date of a given calendar type.
+   * Japanese dates are returned with the year of their era; see
+   * {@link #getJapaneseEra(long)}.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param fixed        a fixed day number.
+   * @param calendarType a calendar type.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed, CalendarType calendarType) {
+    long date = GregorianCalendar.fromFixed(fixed);
+    int year = PackedDate.getYear(date);
+    if (calendarType == CalendarType.JAPANESE)
+      year -= EraTable.FIRST_YEARS[getJapaneseEra(fixed).getValue()] - 1;
+    else
+      year += getYearOffset(calendarType);
+    return pack(year, PackedDate.getMonth(date), PackedDate.getDay(date));
+  }
+
+  /**
+   * Gets the Japanese era of a fixed day number.
+   * The era is found by a binary search of the days on which the eras
+   * begin.
+   *
+   * @param fixed a fixed day number.
+   * @return the era.
+   * @throws IllegalArgumentException if the day precedes the Meiji era.
+   */
+  public static JapaneseEra getJapaneseEra(long fixed) {
+    int i = Arrays.binarySearch(EraTable.STARTS, fixed);
+    if (i < 0) i = -i - 2;
+    if (i < 0)
+      throw new IllegalArgumentException("Day precedes the Meiji era: " + fixed);
+    return EraTable.ERAS[i];
+  }
+
+  /**
+   * Gets the name of a Japanese era.
+   *
+   * @param era an era.
+   * @return the name of the era.
+   */
+  public static String getEraName(JapaneseEra era) {
+    return japaneseEraNames[era.getValue()];
+  }
+
+  /**
+   * Gets the calendar type.
+   *
+   * @return the calendar type.
+   */
+  public CalendarType getCalendarType() {
+    return _calendarTypes[_types & 0xF];
+  }
+
+  /**
+   * Gets the Japanese era.
+   *
+   * @return the era; or null, if this is not a Japanese date.
+   */
+  public JapaneseEra getEra() {
+    int era = _types >> 4;
+    return (era == 0) ? null : _eras[era - 1];
+  }
+
+  /**
+   * Gets the Gregorian year of this date.
+   *
+   * @return the Gregorian year.
+   */
+  public int getGregorianYear() {
+    if (getCalendarType() == CalendarType.JAPANESE)
+      return toGregorianYear(getEra(), this.year);
+    return this.year - getYearOffset(getCalendarType());
+  }
+
+  /**
+   * Gets the fixed day number of this date.
+   *
+   * @return the fixed day number.
+   */
+  public long getFixed() {
+    return GregorianCalendar.toFixed(getGregorianYear(), this.month, this.day);
+  }
+
+  /**
+   * Gets this month's name.
+   *
+   * @return the name of this month.
+   */
+  public String getMonthName() {
+    return GregorianCalendar.getMonthName(this.month);
+  }
+
+  /**
+   * Determines whether this date's year is a leap year.
+   *
+   * @return true, if this is a leap year; false, otherwise.
+   */
+  public boolean isLeapYear() {
+    return GregorianCalendar.isLeapYear(getGregorianYear(), false);
+  }
+
+  /**
+   * Sets this date to the next day.
+   * Japanese dates move into the next era on the day it begins.
+   */
+  @Override
+  public void nextDay() {
+    super.nextDay();
+    if (getCalendarType() == CalendarType.JAPANESE)
+      setFixed(getFixed());
+  }
+
+  /**
+   * Sets this date to the previous day.
+   * Japanese dates move back into the previous era before the day this era
+   * begins.
+   */
+  @Override
+  public void prevDay() {
+    super.prevDay();
+    if (getCalendarType() == CalendarType.JAPANESE)
+      setFixed(getFixed());
+  }
+
+  /**
+   * Gets the date.
+   *
+   * @return the date.
+   */
+  @Override
+  public String getDate() {
+    String year = (getCalendarType() == CalendarType.JAPANESE) ?
+      getEraName(getEra()) + " " + getYear() : Integer.toString(getYear());
+    return new String(getMonthName() + " " +
+      getDay() + ", " +
+      year);
+  }
+
+  /**
+   * Gets the name of this calendar.
+   *
+   * @return the name of this calendar.
+   */
+  @Override
+  public String getName() {
+    return calendarNames[getCalendarType().getValue()];
+  }
+
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    return CalendarSystems.get(getCalendarId(getCalendarType()));
+  }
+
+  /**
+   * Gets the month names.
+   *
+   * @return an array[12] containing the month names.
+   */
+  @Override
+  public String[] getMonths() {
+    return monthNames.clone();
+  }
+
+  /**
+   * Gets the week day names.
+   *
+   * @return an array[7] containing the week day names.
+   */
+  @Override
+  public String[] getWeekDays() {
+    return weekDayNames.clone();
+  }
+
+  /**
+   * Gets the name for this week day.
+   *
+   * @return the name for this week day.
+   */
+  @Override
+  public String getWeekDay() {
+    return weekDayNames[getWeekDayNumber()];
+  }
+
+  /**
+   * Gets the number of days in this month.
+   *
+   * @return the number of days in this month.
+   */
+  @Override
+  public int getNumberOfDaysInMonth() {
+    return GregorianCalendar.getNumberOfDaysInMonth(getGregorianYear(),
+      this.month, false);
+  }
+
+  /**
+   * Gets the number of days in a week.
+   *
+   * @return the number of days in a week.
+   */
+  @Override
+  public int getNumberOfDaysInWeek() {
+    return 7;
+  }
+
+  /**
+   * Gets the number of months in a year.
+   *
+   * @return the number of months in a year.
+   */
+  @Override
+  public int getNumberOfMonthsInYear() {
+    return 12;
+  }
+
+  /**
+   * Sets this calendar using another Almanac.
+   *
+   * @param a an Almanac.
+   */
+  @Override
+  public void set(Almanac a) {
+    setFixed(AlmanacConverter.toFixed(a));
+  }
+
+  @Override
+  public String toString() {
+    return new String(getName() + ": " + getDate());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof EraCalendar))
+      return false;
+    if (obj == this)
+      return true;
+
+    final EraCalendar date = (EraCalendar) obj;
+    return hasSameDate(date) && _types == date._types;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * hashDate() + _types;
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  private EraCalendar(int year, int month, int day,
+                      CalendarType calendarType, JapaneseEra era) {
+    super();
+    this.year = year;
+    this.month = month;
+    this.day = day;
+    _types = types(calendarType, era);
+  }
+
+  /**
+   * Sets this date to a fixed day number.
+   *
+   * @param fixed a fixed day number.
+   */
+  private void setFixed(long fixed) {
+    long date = fromFixed(fixed, getCalendarType());
+    if (getCalendarType() == CalendarType.JAPANESE) {
+      byte types = types(CalendarType.JAPANESE, getJapaneseEra(fixed));
+      if (types != _types) {
+        _types = types;
+        invalidateDayNumber();
+      }
+    }
+    this.year = PackedDate.getYear(date);
+    this.month = PackedDate.getMonth(date);
+    this.day = PackedDate.getDay(date);
+  }
+
+  /**
+   * Packs a calendar type and a Japanese era into a byte.
+   *
+   * @param calendarType a calendar type.
+   * @param era a Japanese era; or null.
+   * @return the packed types.
+   */
+  private static byte types(CalendarType calendarType, JapaneseEra era) {
+    int e = (era == null) ? 0 : era.ordinal() + 1;
+    return (byte) ((e << 4) | calendarType.ordinal());
+  }
+
+  /**
+   * Converts a year of a Japanese era to a Gregorian year.
+   *
+   * @param era  an era.
+   * @param year a year of the era.
+   * @return the Gregorian year.
+   */
+  private static int toGregorianYear(JapaneseEra era, int year) {
+    return EraTable.FIRST_YEARS[era.getValue()] + year - 1;
+  }
+
+  /**
+   * The days on which the Japanese eras begin, in ascending order.
+   */
+  private static final class EraTable {
+    static final JapaneseEra[] ERAS = JapaneseEra.values();
+    static final int[] FIRST_YEARS = { 1868, 1912, 1926, 1989, 2019 };
+    static final long[] STARTS = {
+      GregorianCalendar.toFixed(1868, 1, 1),
+      GregorianCalendar.toFixed(1912, 7, 30),
+      GregorianCalendar.toFixed(1926, 12, 25),
+      GregorianCalendar.toFixed(1989, 1, 8),
+      GregorianCalendar.toFixed(2019, 5, 1)
+    };
+  }
+}
@@ -0,0 +1,412 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.constants.CalendarConstants.EthiopianCalendarConstants.monthNames;
+import static com.hm.cal.constants.CalendarConstants.EthiopianCalendarConstants.weekDayNames;
+import static com.hm.cal.util.AlmanacConverter.toEthiopianCalendar;
+import static com.hm.cal.util.Util.floorMod;
+
+/**
+ * A date in the Ethiopian calendar.
+ * <p>
+ * The Ethiopian calendar is the civil calendar of Ethiopia and the liturgical
+ * calendar of the Ethiopian and Eritrean Orthodox churches. It has the same
+ * structure as the Coptic calendar: 12 months of 30 days followed by
+ * Pagume, a thirteenth month of 5 days, or 6 days in leap years.
+ * <p>
+ * Years are counted either in the Amete Mihret (Era of Mercy), which begins
+ * on August 29, 8 AD (Julian), or in the Amete Alem (Era of the World),
+ * which begins 5500 years earlier.
+ *
+ * @since 2026.10.16
+ */
+public class EthiopianCalendar extends Almanac {
+
+  public static final String CALENDAR_NAME = "Ethiopian Calendar";
+  public static final JulianDay EPOCH = JulianDay.constant(1724220.5);
+  private static final long _fixedEpoch = JulianDay.toFixed(EPOCH.getValue());
+
+  // Amete Alem year = Amete Mihret year + 5500.
+  private static final int _ameteAlemOffset = 5500;
+
+  private Era era;
+
+  /**
+   * The era in which years are counted.
+   */
+  public enum Era {
+    AMETE_MIHRET (0),
+    AMETE_ALEM   (1);
+
+    private final int value;
+
+    private Era(int value) {
+      this.value = value;
+    }
+
+    public int getValue() {
+      return value;
+    }
+  }
+
+  /**
+   * Constructs an Ethiopian date set to today's date.
+   */
+  public EthiopianCalendar() {
+    this(new JulianDay());
+  }
+
+  /**
+   * Constructs an Ethiopian date from an Almanac.
+   *
+   * @param a an Almanac.
+   */
+  public EthiopianCalendar(Almanac a) {
+    this(toEthiopianCalendar(a));
+  }
+
+  /**
+   * Constructs an Ethiopian date from another Ethiopian date.
+   *
+   * @param date an Ethiopian date.
+   */
+  public EthiopianCalendar(EthiopianCalendar date) {
+    this(date.getYear(), date.getMonth(), date.getDay(), date.getEra());
+  }
+
+  /**
+   * Constructs an Ethiopian date in the Amete Mihret.
+   *
+   * @param year  a year.
+   * @param month a month [1-13].
+   * @param day   a day.
+   */
+  public EthiopianCalendar(int year, int month, int day) {
+    this(year, month, day, Era.AMETE_MIHRET);
+  }
+
+  /**
+   * Constructs an Ethiopian date in a given era.
+   *
+   * @param year  a year of the era.
+   * @param month a month [1-13].
+   * @param day   a day.
+   * @param era   an era.
+   */
+  public EthiopianCalendar(int year, int month, int day, Era era) {
+    super();
+    this.year = year;
+    this.month = month;
+    this.day = day;
+    this.era = era;
+  }
+
+  /**
+   * Returns today's date as a string.
+   * Convenience static method.
+   *
+   * @return today's date.
+   */
+  public static String asToday() {
+    return (new EthiopianCalendar()).toString();
+  }
+
+  /**
+   * Determines whether a given Amete Mihret year is a leap year.
+   *
+   * @param year a year.
+   * @return true, if a leap year; false, otherwise.
+   */
+  public static boolean isLeapYear(int year) {
+    return floorMod(year, 4) == 3;
+  }
+
+  /**
+   * Determines whether a given year of an era is a leap year.
+   *
+   * @param year a year of the era.
+   * @param era  an era.
+   * @return true, if a leap year; false, otherwise.
+   */
+  public static boolean isLeapYear(int year, Era era) {
+    return isLeapYear(toAmeteMihret(year, era));
+  }
+
+  /**
+   * Gets the number of days in a given month in a given year.
+   *
+   * @param year  a year of the era.
+   * @param month a month [1-13].
+   * @param era   an era.
+   * @return the number of days in the month.
+   */
+  public static int getNumberOfDaysInMonth(int year, int month, Era era) {
+    if (month != 13) return 30;
+    return isLeapYear(year, era) ? 6 : 5;
+  }
+
+  /**
+   * Gets a month name.
+   *
+   * @param month a month number [1-13].
+   * @return a month name.
+   * @throws IndexOutOfBoundsException
+   */
+  public static String getMonthName(int month)
+    throws IndexOutOfBoundsException {
+    return monthNames[month - 1];
+  }
+
+  /**
+   * Converts an Amete Mihret date to its fixed day number.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param year  a year.
+   * @param month a month [1-13].
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day) {
+    return CopticCalendar.toFixed(_fixedEpoch, year, month, day);
+  }
+
+  /**
+   * Converts a date of a given era to its fixed day number.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param year  a year of the era.
+   * @param month a month [1-13].
+   * @param day   a day.
+   * @param era   an era.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day, Era era) {
+    return toFixed(toAmeteMihret(year, era), month, day);
+  }
+
+  /**
+   * Converts a fixed day number to an Amete Mihret date.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed) {
+    return CopticCalendar.fromFixed(_fixedEpoch, fixed);
+  }
+
+  /**
+   * Converts a fixed day number to a date of a given era.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param fixed a fixed day number.
+   * @param era   an era.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed, Era era) {
+    long date = fromFixed(fixed);
+    if (era != Era.AMETE_ALEM)
+      return date;
+    return PackedDate.pack(PackedDate.getYear(date) + _ameteAlemOffset,
+      PackedDate.getMonth(date), PackedDate.getDay(date));
+  }
+
+  /**
+   * Gets this month's name.
+   *
+   * @return the name of this month.
+   */
+  public String getMonthName() {
+    return EthiopianCalendar.getMonthName(this.month);
+  }
+
+  /**
+   * Determines whether this date's year is a leap year.
+   *
+   * @return true, if this is a leap year; false, otherwise.
+   */
+  public boolean isLeapYear() {
+    return EthiopianCalendar.isLeapYear(this.year, era);
+  }
+
+  /**
+   * Sets the era.
+   *
+   * @param era an era.
+   */
+  public void setEra(Era era) {
+    this.era = era;
+    invalidateDayNumber();
+  }
+
+  /**
+   * Gets the era.
+   *
+   * @return the era.
+   */
+  public Era getEra() {
+    return era;
+  }
+
+  /**
+   * Gets the date.
+   *
+   * @return the date.
+   */
+  @Override
+  public String getDate() {
+    return new String(getDay() + " " +
+      getMonthName() + ", " +
+      getYear());
+  }
+
+  /**
+   * Gets the name of this calendar.
+   *
+   * @return the name of this calendar.
+   */
+  @Override
+  public String getName() {
+    return CALENDAR_NAME;
+  }
+
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    if (era == Era.AMETE_ALEM)
+      return CalendarSystems.get(CalendarId.ETHIOPIAN_AMETE_ALEM);
+    return CalendarSystems.get(CalendarId.ETHIOPIAN);
+  }
+
+  /**
+   * Gets the month names.
+   *
+   * @return an array[13] containing the month names.
+   */
+  @Override
+  public String[] getMonths() {
+    return monthNames.clone();
+  }
+
+  /**
+   * Gets the week day names.
+   *
+   * @return an array[7] containing the week day names.
+   */
+  @Override
+  public String[] getWeekDays() {
+    return weekDayNames.clone();
+  }
+
+  /**
+   * Gets the name for this week day.
+   *
+   * @return the name for this week day.
+   */
+  @Override
+  public String getWeekDay() {
+    return weekDayNames[getWeekDayNumber()];
+  }
+
+  /**
+   * Gets the number of days in this month.
+   *
+   * @return the number of days in this month.
+   */
+  @Override
+  public int getNumberOfDaysInMonth() {
+    return EthiopianCalendar.getNumberOfDaysInMonth(this.year, this.month,
+      era);
+  }
+
+  /**
+   * Gets the number of days in a week.
+   *
+   * @return the number of days in a week.
+   */
+  @Override
+  public int getNumberOfDaysInWeek() {
+    return 7;
+  }
+
+  /**
+   * Gets the number of months in a year.
+   *
+   * @return the number of months in a year.
+   */
+  @Override
+  public int getNumberOfMonthsInYear() {
+    return 13;
+  }
+
+  /**
+   * Sets this calendar using another Almanac.
+   *
+   * @param a an Almanac.
+   */
+  @Override
+  public void set(Almanac a) {
+    long date = fromFixed(AlmanacConverter.toFixed(a), era);
+    this.year = PackedDate.getYear(date);
+    this.month = PackedDate.getMonth(date);
+    this.day = PackedDate.getDay(date);
+  }
+
+  @Override
+  public String toString() {
+    return new String(CALENDAR_NAME + ": " + getDate());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof EthiopianCalendar))
+      return false;
+    if (obj == this)
+      return true;
+
+    final EthiopianCalendar date = (EthiopianCalendar) obj;
+    return hasSameDate(date) && this.era == date.era;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * hashDate() + this.era.ordinal();
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  /**
+   * Converts a year of an era to an Amete Mihret year.
+   *
+   * @param year a year of the era.
+   * @param era  an era.
+   * @return the Amete Mihret year.
+   */
+  private static int toAmeteMihret(int year, Era era) {
+    return (era == Era.AMETE_ALEM) ? year - _ameteAlemOffset : year;
+  }
+}
@@ -15,13 +15,23 @@
  *****************************************************************************/
 package com.hm.cal.date;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
+import com.hm.cal.astro.Meeus;
+import com.hm.cal.astro.Season;
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
+
+import java.util.Arrays;
 
 import static com.hm.cal.constants.CalendarConstants.FrenchRepublicanCalendarConstants.*;
 import static com.hm.cal.util.AlmanacConverter.toFrenchRepublicanCalendar;
+import static com.hm.cal.util.PackedDate.pack;
 import static com.hm.cal.util.RomanNumeralGenerator.itr;
 import static com.hm.cal.util.RomanNumeralGenerator.toRoman;
+import static com.hm.cal.util.Util.floorDiv;
+import static com.hm.cal.util.Util.floorMod;
 import static com.hm.cal.util.Util.its;
 
 /**
@@ -48,11 +58,45 @@ import static com.hm.cal.util.Util.its;
  * @author Chris Engelsma
  * @version 2015.11.09
  */
-public final class FrenchRepublicanCalendar extends Almanac {
+public final class FrenchRepublicanCalendar extends MemoizedAlmanac {
 
   public static final String CALENDAR_NAME = "French Republican Calendar";
-  public static final JulianDay EPOCH = new JulianDay(2375839.5);
+  private static final double _epoch = 2375839.5;
+  public static final JulianDay EPOCH = JulianDay.constant(_epoch);
+  private static final long _fixedEpoch = JulianDay.toFixed(_epoch);
   private int _week;
+  private CalendarType calendarType;
+
+  /**
+   * The calendar type (astronomical versus arithmetic).
+   * <p>
+   * Astronomical years begin on the day of the autumnal equinox as observed
+   * in Paris, as the calendar was decreed. Arithmetic years follow the rule
+   * proposed by Gilbert Romme: a year is a leap year if it is divisible by
+   * 4, except for years divisible by 100 but not by 400, and except for
+   * years divisible by 4000. The arithmetic type needs no astronomy and
+   * converts in constant time.
+   * <p>
+   * The rule was never adopted, so the two types differ even during the
+   * years the calendar was in use: the astronomical leap years were III,
+   * VII and XI, whereas the arithmetic leap years are IV, VIII and XII.
+   * Later on, 1 Vendémiaire falls up to a day apart in many years as the
+   * equinox drifts against the fixed rule.
+   */
+  public enum CalendarType {
+    ASTRONOMICAL (0),
+    ARITHMETIC   (1);
+
+    private final int value;
+
+    private CalendarType(int value) {
+      this.value = value;
+    }
+
+    public int getValue() {
+      return value;
+    }
+  }
 
   /**
    * Constructs a French Republican Date for today's date.
@@ -72,6 +116,20 @@ public final class FrenchRepublicanCalendar extends Almanac {
     this(year, month, (day / 10) + 1, (day % 10));
   }
 
+  /**
+   * Constructs a French Republican Date with given year, month, day and
+   * calendar type.
+   *
+   * @param year         the year
+   * @param month        the month
+   * @param day          the day
+   * @param calendarType the calendar type
+   */
+  public FrenchRepublicanCalendar(int year, int month, int day,
+                                  CalendarType calendarType) {
+    this(year, month, (day / 10) + 1, (day % 10), calendarType);
+  }
+
   /**
    * Constructs a French Republican Date with given year, month,
    * week and day.
@@ -82,11 +140,27 @@ public final class FrenchRepublicanCalendar extends Almanac {
    * @param day   the day
    */
   public FrenchRepublicanCalendar(int year, int month, int week, int day) {
+    this(year, month, week, day, CalendarType.ASTRONOMICAL);
+  }
+
+  /**
+   * Constructs a French Republican Date with given year, month, week, day
+   * and calendar type.
+   *
+   * @param year         the year
+   * @param month        the month
+   * @param week         the week
+   * @param day          the day
+   * @param calendarType the calendar type
+   */
+  public FrenchRepublicanCalendar(int year, int month, int week, int day,
+                                  CalendarType calendarType) {
     super();
     this.year = year;
     this.month = month;
     this.day = day;
     _week = week;
+    this.calendarType = calendarType;
   }
 
   /**
@@ -114,7 +188,8 @@ public final class FrenchRepublicanCalendar extends Almanac {
    * @param date a French Republican date.
    */
   public FrenchRepublicanCalendar(FrenchRepublicanCalendar date) {
-    this(date.getYear(), date.getMonth(), date.getWeek(), date.getDay());
+    this(date.getYear(), date.getMonth(), date.getWeek(), date.getDay(false),
+      date.getCalendarType());
   }
 
   /**
@@ -135,7 +210,20 @@ public final class FrenchRepublicanCalendar extends Almanac {
    * @return the number of days in the month and year.
    */
   public static int getNumberOfDaysInMonth(int month, int year) {
-    return (month == 13) ? (isLeapYear(year) ? 6 : 5) : 30;
+    return getNumberOfDaysInMonth(month, year, CalendarType.ASTRONOMICAL);
+  }
+
+  /**
+   * Returns the number of days in a given month and year.
+   *
+   * @param month        a month.
+   * @param year         a year.
+   * @param calendarType a calendar type.
+   * @return the number of days in the month and year.
+   */
+  public static int getNumberOfDaysInMonth(int month, int year,
+                                           CalendarType calendarType) {
+    return (month == 13) ? (isLeapYear(year, calendarType) ? 6 : 5) : 30;
   }
 
   /**
@@ -158,11 +246,105 @@ public final class FrenchRepublicanCalendar extends Almanac {
    * @return true, if a leap year; false, otherwise.
    */
   public static boolean isLeapYear(int year) {
-    JulianDay jday1 = new JulianDay(new FrenchRepublicanCalendar(year, 1, 1));
-    JulianDay jday2 = new JulianDay(new FrenchRepublicanCalendar(year + 1, 1, 1));
-    int val1 = (int) jday1.atNoon().getValue();
-    int val2 = (int) jday2.atNoon().getValue();
-    return (val2 - val1 > 365);
+    return (newYear(year + 1) - newYear(year) > 365);
+  }
+
+  /**
+   * Determines if a given year is a leap year.
+   *
+   * @param year         a year.
+   * @param calendarType a calendar type.
+   * @return true, if a leap year; false, otherwise.
+   */
+  public static boolean isLeapYear(int year, CalendarType calendarType) {
+    if (calendarType != CalendarType.ARITHMETIC)
+      return isLeapYear(year);
+    long y = year;
+    if (floorMod(y, 4) != 0 || floorMod(y, 4000) == 0)
+      return false;
+    long c = floorMod(y, 400);
+    return c != 100 && c != 200 && c != 300;
+  }
+
+  /**
+   * Converts a date to its fixed day number.
+   * <p>
+   * The start of each year is found from the autumnal equinox as observed
+   * in Paris; the remainder of the conversion is integer-only.
+   *
+   * @param year  a year.
+   * @param month a month [1-13].
+   * @param day   a day of the month [1-30], ignoring décades.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day) {
+    return newYear(year) + (30 * (month - 1)) + (day - 1);
+  }
+
+  /**
+   * Converts a date of a given calendar type to its fixed day number.
+   * <p>
+   * The arithmetic conversion is integer-only and allocation-free.
+   *
+   * @param year         a year.
+   * @param month        a month [1-13].
+   * @param day          a day of the month [1-30], ignoring décades.
+   * @param calendarType a calendar type.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day,
+                             CalendarType calendarType) {
+    if (calendarType != CalendarType.ARITHMETIC)
+      return toFixed(year, month, day);
+    return arithmeticNewYear(year) + (30 * (month - 1)) + (day - 1);
+  }
+
+  /**
+   * Converts a fixed day number to a date.
+   *
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}, with
+   * the day of the month ignoring décades.
+   */
+  public static long fromFixed(long fixed) {
+    long[] table = EquinoxTable.NEW_YEARS;
+    int year;
+    long newYear;
+    if (table[0] <= fixed && fixed < table[table.length - 1]) {
+      int i = Arrays.binarySearch(table, fixed);
+      if (i < 0) i = -i - 2;
+      year = EquinoxTable.FIRST_YEAR + i;
+      newYear = table[i];
+    } else {
+      double[] adr = anneeDeLaRevolution(JulianDay.fromFixed(fixed));
+      year = (int) adr[0];
+      newYear = JulianDay.toFixed(adr[1]);
+    }
+    int days = (int) (fixed - newYear);
+    return pack(year, (days / 30) + 1, (days % 30) + 1);
+  }
+
+  /**
+   * Converts a fixed day number to a date of a given calendar type.
+   * <p>
+   * The arithmetic conversion is integer-only and allocation-free.
+   *
+   * @param fixed        a fixed day number.
+   * @param calendarType a calendar type.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}, with
+   * the day of the month ignoring décades.
+   */
+  public static long fromFixed(long fixed, CalendarType calendarType) {
+    if (calendarType != CalendarType.ARITHMETIC)
+      return fromFixed(fixed);
+    // The mean arithmetic year is 1460969 / 4000 days; the estimate is
+    // never early and at most one year late.
+    int year = (int) floorDiv(4000 * (fixed - _fixedEpoch + 2), 1460969) + 1;
+    long newYear = arithmeticNewYear(year);
+    if (fixed < newYear)
+      newYear = arithmeticNewYear(--year);
+    int days = (int) (fixed - newYear);
+    return pack(year, (days / 30) + 1, (days % 30) + 1);
   }
 
   /**
@@ -181,11 +363,13 @@ public final class FrenchRepublicanCalendar extends Almanac {
    */
   @Override
   public void set(Almanac a) {
-    FrenchRepublicanCalendar cal = toFrenchRepublicanCalendar(a);
-    this.year = cal.getYear();
-    this.month = cal.getMonth();
-    this.day = cal.getDay();
-    _week = cal.getWeek();
+    long date = fromFixed(AlmanacConverter.toFixed(a), calendarType);
+    int day = PackedDate.getDay(date);
+    this.year = PackedDate.getYear(date);
+    this.month = PackedDate.getMonth(date);
+    this.day = ((day - 1) % 10) + 1;
+    _week = ((day - 1) / 10) + 1;
+    invalidateDayNumber();
   }
 
   /**
@@ -195,7 +379,7 @@ public final class FrenchRepublicanCalendar extends Almanac {
    */
   @Override
   public String[] getMonths() {
-    return monthNames;
+    return monthNames.clone();
   }
 
   /**
@@ -217,6 +401,7 @@ public final class FrenchRepublicanCalendar extends Almanac {
   public void setDay(int day) {
     this.day = (day % 10);
     _week = day / 10 + 1;
+    invalidateDayNumber();
   }
 
   /**
@@ -236,7 +421,7 @@ public final class FrenchRepublicanCalendar extends Almanac {
    */
   @Override
   public String[] getWeekDays() {
-    return weekDayNames;
+    return weekDayNames.clone();
   }
 
   /**
@@ -248,6 +433,7 @@ public final class FrenchRepublicanCalendar extends Almanac {
     super.nextDay();
     _week = (day / 10) + 1;
     this.day = (day % 10);
+    invalidateDayNumber();
   }
 
   /**
@@ -259,6 +445,7 @@ public final class FrenchRepublicanCalendar extends Almanac {
     super.prevDay();
     _week = (day / 10) + 1;
     this.day = (day % 10);
+    invalidateDayNumber();
   }
 
   /**
@@ -288,7 +475,8 @@ public final class FrenchRepublicanCalendar extends Almanac {
    */
   @Override
   public int getNumberOfDaysInMonth() {
-    return FrenchRepublicanCalendar.getNumberOfDaysInMonth(month, year);
+    return FrenchRepublicanCalendar.getNumberOfDaysInMonth(month, year,
+      calendarType);
   }
 
   /**
@@ -298,7 +486,8 @@ public final class FrenchRepublicanCalendar extends Almanac {
    * @return the number of days in a month of this year.
    */
   public int getNumberOfDaysInMonth(int month) {
-    return FrenchRepublicanCalendar.getNumberOfDaysInMonth(month, this.year);
+    return FrenchRepublicanCalendar.getNumberOfDaysInMonth(month, this.year,
+      calendarType);
   }
 
   /**
@@ -331,7 +520,26 @@ public final class FrenchRepublicanCalendar extends Almanac {
    * @return true, if a leap year; false, otherwise.
    */
   public boolean isLeapYear() {
-    return FrenchRepublicanCalendar.isLeapYear(this.year);
+    return FrenchRepublicanCalendar.isLeapYear(this.year, calendarType);
+  }
+
+  /**
+   * Sets the calendar type.
+   *
+   * @param calendarType a calendar type.
+   */
+  public void setCalendarType(CalendarType calendarType) {
+    this.calendarType = calendarType;
+    invalidateDayNumber();
+  }
+
+  /**
+   * Gets the calendar type.
+   *
+   * @return the calendar type.
+   */
+  public CalendarType getCalendarType() {
+    return calendarType;
   }
 
   /**
@@ -360,6 +568,13 @@ public final class FrenchRepublicanCalendar extends Almanac {
     return CALENDAR_NAME;
   }
 
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    if (calendarType == CalendarType.ARITHMETIC)
+      return CalendarSystems.get(CalendarId.FRENCH_REPUBLICAN_ARITHMETIC);
+    return CalendarSystems.get(CalendarId.FRENCH_REPUBLICAN);
+  }
+
   @Override
   public String toString() {
     return new String(CALENDAR_NAME + ": " + getDate());
@@ -373,26 +588,120 @@ public final class FrenchRepublicanCalendar extends Almanac {
       return true;
 
     final FrenchRepublicanCalendar date = (FrenchRepublicanCalendar) obj;
+    return hasSameDate(date) && _week == date._week &&
+      this.calendarType == date.calendarType;
+  }
 
-    return new EqualsBuilder()
-      .append(this.year, date.getYear())
-      .append(this.month, date.getMonth())
-      .append(_week, date.getWeek())
-      .append(this.day, date.getDay(false))
-      .isEquals();
+  @Override
+  public int hashCode() {
+    return 31 * (31 * hashDate() + _week) + this.calendarType.ordinal();
   }
 
 /////////////////////////////////////////////////////////////////////////////
 // private
 
-  @Override
-  public int hashCode() {
-    return new HashCodeBuilder()
-      .append(this.year)
-      .append(this.month)
-      .append(_week)
-      .append(this.day)
-      .toHashCode();
+  /**
+   * Gets the fixed day number of the first day of a given year.
+   *
+   * @param year a year.
+   * @return the fixed day number of 1 Vendémiaire.
+   */
+  private static long newYear(int year) {
+    int i = year - EquinoxTable.FIRST_YEAR;
+    if (i >= 0 && i < EquinoxTable.NEW_YEARS.length)
+      return EquinoxTable.NEW_YEARS[i];
+    return computeNewYear(year);
+  }
+
+  /**
+   * Gets the fixed day number of the first day of a given arithmetic year.
+   *
+   * @param year a year.
+   * @return the fixed day number of 1 Vendémiaire.
+   */
+  private static long arithmeticNewYear(int year) {
+    long y = year - 1L;
+    return _fixedEpoch + (365 * y) + floorDiv(y, 4) - floorDiv(y, 100)
+      + floorDiv(y, 400) - floorDiv(y, 4000);
+  }
+
+  /**
+   * Computes the fixed day number of the first day of a given year from
+   * the autumnal equinox.
+   *
+   * @param year a year.
+   * @return the fixed day number of 1 Vendémiaire.
+   */
+  private static long computeNewYear(int year) {
+    double guess = _epoch + (Meeus.TROPICAL_YEAR * ((year - 1) - 1));
+    double[] adr = new double[]{year - 1, 0};
+    while (adr[0] < year) {
+      adr = anneeDeLaRevolution(guess);
+      guess = adr[1] + (Meeus.TROPICAL_YEAR + 2);
+    }
+    return JulianDay.toFixed(adr[1]);
+  }
+
+  /**
+   * Finds the year of the revolution containing a given Julian Day.
+   *
+   * @param jd a Julian Day.
+   * @return an array[2] containing the year and the day of its equinox.
+   */
+  private static double[] anneeDeLaRevolution(double jd) {
+    long date = GregorianCalendar.fromFixed(JulianDay.toFixed(jd));
+    int guess = PackedDate.getYear(date) - 2;
+    double nexteq, lasteq;
+    lasteq = parisEquinox(guess);
+    while (lasteq > jd) {
+      guess--;
+      lasteq = parisEquinox(guess);
+    }
+    nexteq = lasteq - 1;
+    while (!((lasteq <= jd) && (jd < nexteq))) {
+      lasteq = nexteq;
+      guess++;
+      nexteq = parisEquinox(guess);
+    }
+    double adr = (lasteq - _epoch);
+    adr /= Meeus.TROPICAL_YEAR;
+    adr += 1;
+    return new double[]{Math.round(adr), lasteq};
+  }
+
+  /**
+   * Computes the autumnal equinox as observed in Paris.
+   *
+   * @param year a Gregorian year.
+   * @return the Julian Day of the equinox, set to midnight.
+   */
+  private static double parisEquinox(int year) {
+    double eqJED = Meeus.equinox(year, Season.AUTUMN);
+    double eqJD = eqJED - Meeus.deltat(year) / (24.0 * 60.0 * 60.0);
+    double eqAPP = eqJD + Meeus.equationOfTime(eqJED);
+    double dtParis = (2.0 + (20.0 / 60.0) + (15.0 / (60.0 * 60.0))) / 360.0;
+    double eqParis = eqAPP + dtParis;
+    eqParis = Math.floor(eqParis - 0.5) + 0.5;
+    return eqParis;
+  }
+
+  /**
+   * The first day of each year of the supported range, from the Paris
+   * autumnal equinox. The table is built on first use; the class loader
+   * guarantees it is built once and published safely to every thread.
+   */
+  private static final class EquinoxTable {
+
+    // Years I through MCCIX (1792 - 3000 AD); the last entry is the first
+    // day of the year following the range.
+    static final int FIRST_YEAR = 1;
+    static final int LAST_YEAR = 1209;
+    static final long[] NEW_YEARS = new long[LAST_YEAR - FIRST_YEAR + 2];
+
+    static {
+      for (int i = 0; i < NEW_YEARS.length; ++i)
+        NEW_YEARS[i] = computeNewYear(FIRST_YEAR + i);
+    }
   }
 
 }
@@ -15,8 +15,11 @@
  *****************************************************************************/
 package com.hm.cal.date;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
 import org.joda.time.DateTime;
 
 import java.util.Calendar;
@@ -24,6 +27,8 @@ import java.util.Calendar;
 import static com.hm.cal.constants.CalendarConstants.GregorianCalendarConstants.monthNames;
 import static com.hm.cal.constants.CalendarConstants.GregorianCalendarConstants.weekDayNames;
 import static com.hm.cal.util.AlmanacConverter.toGregorianCalendar;
+import static com.hm.cal.util.PackedDate.pack;
+import static com.hm.cal.util.Util.floorDiv;
 
 /**
  * A Gregorian Calendar Date.
@@ -47,7 +52,7 @@ import static com.hm.cal.util.AlmanacConverter.toGregorianCalendar;
 public final class GregorianCalendar extends Almanac {
 
   public static final String CALENDAR_NAME = "Gregorian Calendar";
-  public static final JulianDay EPOCH = new JulianDay(2299160.5);
+  public static final JulianDay EPOCH = JulianDay.constant(2299160.5);
 
   /**
    * Constructs a Gregorian Calendar using today's date.
@@ -135,15 +140,14 @@ public final class GregorianCalendar extends Almanac {
    * @return true, if year is a leap year; false, otherwise.
    */
   public static boolean isLeapYear(int year, boolean useProleptic) {
-    GregorianCalendar epoch = new GregorianCalendar(EPOCH);
-    GregorianCalendar date = new GregorianCalendar(year, 1, 1);
-
-    if (useProleptic && datesAreChronological(date, epoch))
+    // January 1st precedes the epoch for every year up to 1582.
+    if (useProleptic && year <= 1582)
       return JulianCalendar.isLeapYear(year);
 
     if (Math.abs(year) % 4 == 0) {
       if (Math.abs(year) % 400 == 0) return true;
       if (Math.abs(year) % 100 == 0) return false;
+      return true;
     }
     return false;
   }
@@ -158,6 +162,45 @@ public final class GregorianCalendar extends Almanac {
     return GregorianCalendar.isLeapYear(year, true);
   }
 
+  /**
+   * Converts a date to its fixed day number.
+   * <p>
+   * This conversion is proleptic, integer-only and allocation-free.
+   *
+   * @param year  a year.
+   * @param month a month [1-12].
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day) {
+    long a = (14 - month) / 12;
+    long y = year + 4800L - a;
+    long m = month + (12 * a) - 3;
+    return day + ((153 * m) + 2) / 5 + (365 * y) +
+      floorDiv(y, 4) - floorDiv(y, 100) + floorDiv(y, 400) - 32045;
+  }
+
+  /**
+   * Converts a fixed day number to a date.
+   * <p>
+   * This conversion is proleptic, integer-only and allocation-free.
+   *
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed) {
+    long a = fixed + 32044;
+    long b = floorDiv((4 * a) + 3, 146097);
+    long c = a - floorDiv(146097 * b, 4);
+    long d = ((4 * c) + 3) / 1461;
+    long e = c - (1461 * d) / 4;
+    long m = ((5 * e) + 2) / 153;
+    int day = (int) (e - ((153 * m) + 2) / 5 + 1);
+    int month = (int) (m + 3 - (12 * (m / 10)));
+    int year = (int) ((100 * b) + d - 4800 + (m / 10));
+    return pack(year, month, day);
+  }
+
   /**
    * Gets a month name.
    *
@@ -177,10 +220,24 @@ public final class GregorianCalendar extends Almanac {
    * @return the number of days in the month.
    */
   public static int getNumberOfDaysInMonth(int year, int month) {
+    return GregorianCalendar.getNumberOfDaysInMonth(year, month, true);
+  }
+
+  /**
+   * Gets the total number of days in a given month and year.
+   *
+   * @param year         the year.
+   * @param month        the month.
+   * @param useProleptic true, if using a proleptic calendar; false,
+   *                     otherwise.
+   * @return the number of days in the month.
+   */
+  public static int getNumberOfDaysInMonth(int year, int month,
+                                           boolean useProleptic) {
     if (month == 4 || month == 6 || month == 9 || month == 11)
       return 30;
     if (month == 2) {
-      if (!GregorianCalendar.isLeapYear(year)) return 28;
+      if (!GregorianCalendar.isLeapYear(year, useProleptic)) return 28;
       else return 29;
     }
     return 31;
@@ -251,7 +308,7 @@ public final class GregorianCalendar extends Almanac {
    * @return the months.
    */
   public String[] getMonths() {
-    return monthNames;
+    return monthNames.clone();
   }
 
   /**
@@ -260,7 +317,7 @@ public final class GregorianCalendar extends Almanac {
    * @return the weekdays.
    */
   public String[] getWeekDays() {
-    return weekDayNames;
+    return weekDayNames.clone();
   }
 
   /**
@@ -270,10 +327,10 @@ public final class GregorianCalendar extends Almanac {
    */
   @Override
   public void set(Almanac a) {
-    GregorianCalendar cal = toGregorianCalendar(a);
-    this.year = cal.getYear();
-    this.month = cal.getMonth();
-    this.day = cal.getDay();
+    long date = fromFixed(AlmanacConverter.toFixed(a));
+    this.year = PackedDate.getYear(date);
+    this.month = PackedDate.getMonth(date);
+    this.day = PackedDate.getDay(date);
   }
 
   /**
@@ -347,6 +404,11 @@ public final class GregorianCalendar extends Almanac {
     return CALENDAR_NAME;
   }
 
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    return CalendarSystems.get(CalendarId.GREGORIAN);
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (!(obj instanceof GregorianCalendar))
@@ -355,19 +417,11 @@ public final class GregorianCalendar extends Almanac {
       return true;
 
     final GregorianCalendar date = (GregorianCalendar) obj;
-    return new EqualsBuilder()
-      .append(this.year, date.getYear())
-      .append(this.month, date.getMonth())
-      .append(this.day, date.getDay())
-      .isEquals();
+    return hasSameDate(date);
   }
 
   @Override
   public int hashCode() {
-    return new HashCodeBuilder()
-      .append(this.year)
-      .append(this.month)
-      .append(this.day)
-      .toHashCode();
+    return hashDate();
   }
 }
@@ -15,8 +15,11 @@
  *****************************************************************************/
 package com.hm.cal.date;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
 import org.joda.time.DateTime;
 
 import java.util.Calendar;
@@ -24,7 +27,9 @@ import java.util.Calendar;
 import static com.hm.cal.constants.CalendarConstants.HebrewCalendarConstants.monthNames;
 import static com.hm.cal.constants.CalendarConstants.HebrewCalendarConstants.weekDayNames;
 import static com.hm.cal.util.AlmanacConverter.toHebrewCalendar;
-import static com.hm.cal.util.AlmanacConverter.toJulianDay;
+import static com.hm.cal.util.PackedDate.pack;
+import static com.hm.cal.util.Util.floorDiv;
+import static com.hm.cal.util.Util.floorMod;
 
 /**
  * A Hebrew Calendar Date.
@@ -42,7 +47,8 @@ import static com.hm.cal.util.AlmanacConverter.toJulianDay;
 public class HebrewCalendar extends Almanac {
 
   public static final String CALENDAR_NAME = "Hebrew Calendar";
-  public static final JulianDay EPOCH = new JulianDay(347995.5);
+  public static final JulianDay EPOCH = JulianDay.constant(347995.5);
+  private static final long _fixedEpoch = JulianDay.toFixed(EPOCH.getValue());
 
   /**
    * Constructs a Hebrew Calendar using today's date.
@@ -102,6 +108,63 @@ public class HebrewCalendar extends Almanac {
       date.getDay());
   }
 
+  /**
+   * Converts a date to its fixed day number.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param year  a year.
+   * @param month a month [1-13].
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day) {
+    HebrewYearProfile profile = getYearProfile(year);
+    return profile.getNewYear() + profile.getMonthStart(month) + (day - 1);
+  }
+
+  /**
+   * Converts a fixed day number to a date.
+   * <p>
+   * The month is found by a scan of the month offsets of the year's type.
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed) {
+    int year = (int) floorDiv((fixed - _fixedEpoch) * 98496L, 35975351L) - 1;
+    while (fixed >= newYear(year + 1))
+      year++;
+
+    HebrewYearProfile profile = getYearProfile(year);
+    int yearDay = (int) (fixed - profile.getNewYear());
+    int month = profile.getMonth(yearDay);
+    return pack(year, month, yearDay - profile.getMonthStart(month) + 1);
+  }
+
+  /**
+   * Gets the profile of a given year.
+   * Profiles are cached, so repeated calls for a year do not allocate.
+   *
+   * @param year a year.
+   * @return the year profile.
+   */
+  public static HebrewYearProfile getYearProfile(int year) {
+    int i = year - NewYearTable.FIRST_YEAR;
+    if (i < 0 || i >= NewYearTable.PROFILES.length)
+      return newYearProfile(year);
+
+    // Profiles are immutable, with final fields, so they are safe to
+    // publish through a plain array without a lock.
+    HebrewYearProfile profile = NewYearTable.PROFILES[i];
+    if (profile == null) {
+      profile = newYearProfile(year);
+      NewYearTable.PROFILES[i] = profile;
+    }
+    return profile;
+  }
+
   /**
    * Gets an array of month-lengths for a given year.
    *
@@ -109,11 +172,7 @@ public class HebrewCalendar extends Almanac {
    * @return an array of month-lengths for a given year.
    */
   public static int[] getDaysPerMonthInYear(int year) {
-    int n = HebrewCalendar.getNumberOfMonthsInYear(year);
-    int[] days = new int[n];
-    for (int i = 0; i < n; ++i)
-      days[i] = HebrewCalendar.getNumberOfDaysInMonth(year, i + 1);
-    return days;
+    return getYearProfile(year).getDaysPerMonth();
   }
 
   /**
@@ -136,23 +195,7 @@ public class HebrewCalendar extends Almanac {
    * @return the number of days in a given month and year.
    */
   public static int getNumberOfDaysInMonth(int year, int month) {
-
-    // Fixed 29-day months.
-    if (month == 2 || month == 4 || month == 6 || month == 10 || month == 13)
-      return 29;
-
-    // Adar has 29 days on non-leap years.
-    if (month == 12 && !HebrewCalendar.isLeapYear(year)) {
-      return 29;
-    }
-
-    // Heshvan (8) and Kislev (9) depend on length of the year
-    if (month == 8 && !(getNumberOfDaysInYear(year) % 10 == 5))
-      return 29;
-    if (month == 9 && (getNumberOfDaysInYear(year) % 10 == 3))
-      return 29;
-
-    return 30;
+    return getYearProfile(year).getNumberOfDaysInMonth(month);
   }
 
   /**
@@ -172,17 +215,18 @@ public class HebrewCalendar extends Almanac {
    * @return true, if a leap year; false, otherwise.
    */
   public static boolean isLeapYear(int year) {
-    int val = ((7 * year) + 1) % 19;
+    long val = floorMod((7L * year) + 1, 19);
     return (val < 7);
   }
 
+  /**
+   * Gets the number of days in a given year.
+   *
+   * @param year a year.
+   * @return the number of days in the given year.
+   */
   public static int getNumberOfDaysInYear(int year) {
-    HebrewCalendar now = new HebrewCalendar(year, 7, 1);
-    HebrewCalendar next = new HebrewCalendar(year + 1, 7, 1);
-    JulianDay jnow = toJulianDay(now);
-    JulianDay jnext = toJulianDay(next);
-    int num = (int) (jnext.getValue() - jnow.getValue());
-    return num;
+    return getYearProfile(year).getNumberOfDays();
   }
 
   /**
@@ -201,7 +245,7 @@ public class HebrewCalendar extends Almanac {
    */
   @Override
   public String[] getMonths() {
-    return monthNames;
+    return monthNames.clone();
   }
 
   /**
@@ -223,6 +267,16 @@ public class HebrewCalendar extends Almanac {
     return weekDayNames[getWeekDayNumber()];
   }
 
+  /**
+   * Gets the names of the weekdays.
+   *
+   * @return an array[7] of the weekdays.
+   */
+  @Override
+  public String[] getWeekDays() {
+    return weekDayNames.clone();
+  }
+
   /**
    * Gets the date.
    *
@@ -270,8 +324,8 @@ public class HebrewCalendar extends Almanac {
    */
   @Override
   public void set(Almanac a) {
-    HebrewCalendar cal = toHebrewCalendar(a);
-    set(cal.getYear(), cal.getMonth(), cal.getDay());
+    long date = fromFixed(AlmanacConverter.toFixed(a));
+    set(PackedDate.getYear(date), PackedDate.getMonth(date), PackedDate.getDay(date));
   }
 
   @Override
@@ -301,10 +355,15 @@ public class HebrewCalendar extends Almanac {
     return HebrewCalendar.isLeapYear(this.year);
   }
 
+  /**
+   * Sets this calendar to the next day.
+   * The year begins with Tishri (7); Nisan (1) follows the last month.
+   */
   @Override
   public void nextDay() {
-    if (day == getNumberOfDaysInMonth()) {
-      if (month == getNumberOfMonthsInYear()) {
+    HebrewYearProfile profile = getYearProfile(year);
+    if (day == profile.getNumberOfDaysInMonth(month)) {
+      if (month == profile.getNumberOfMonths()) {
         month = 1;
       } else {
         month++;
@@ -316,11 +375,35 @@ public class HebrewCalendar extends Almanac {
     } else day++;
   }
 
+  /**
+   * Sets this calendar to the previous day.
+   * The year begins with Tishri (7); Nisan (1) follows the last month.
+   */
+  @Override
+  public void prevDay() {
+    if (day == 1) {
+      if (month == 7) {
+        year--;
+        month = 6;
+      } else if (month == 1) {
+        month = getYearProfile(year).getNumberOfMonths();
+      } else {
+        month--;
+      }
+      day = getYearProfile(year).getNumberOfDaysInMonth(month);
+    } else day--;
+  }
+
   @Override
   public String getName() {
     return CALENDAR_NAME;
   }
 
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    return CalendarSystems.get(CalendarId.HEBREW);
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (!(obj instanceof HebrewCalendar))
@@ -329,19 +412,108 @@ public class HebrewCalendar extends Almanac {
       return true;
 
     final HebrewCalendar date = (HebrewCalendar) obj;
-    return new EqualsBuilder()
-      .append(this.year, date.getYear())
-      .append(this.month, date.getMonth())
-      .append(this.day, date.getDay())
-      .isEquals();
+    return hasSameDate(date);
   }
 
   @Override
   public int hashCode() {
-    return new HashCodeBuilder()
-      .append(this.year)
-      .append(this.month)
-      .append(this.day)
-      .toHashCode();
+    return hashDate();
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  /**
+   * Computes the profile of a given year.
+   *
+   * @param year a year.
+   * @return a new year profile.
+   */
+  private static HebrewYearProfile newYearProfile(int year) {
+    long newYear = newYear(year);
+    return new HebrewYearProfile(year, newYear,
+      (int) (newYear(year + 1) - newYear));
   }
+
+  /**
+   * Gets the fixed day number of Rosh Hashanah (1 Tishri) of a given year.
+   *
+   * @param year a year.
+   * @return the fixed day number of the new year.
+   */
+  private static long newYear(int year) {
+    int i = year - NewYearTable.FIRST_YEAR;
+    if (i < 0 || i >= NewYearTable.NEW_YEARS.length)
+      return _fixedEpoch + elapsedDays(year) + 2;
+
+    // Racy single-check: entries are ints, written whole, and every thread
+    // computes the same value, so no lock is needed. Zero marks an entry
+    // that is not yet filled.
+    int fixed = NewYearTable.NEW_YEARS[i];
+    if (fixed == 0) {
+      fixed = (int) (_fixedEpoch + elapsedDays(year) + 2);
+      NewYearTable.NEW_YEARS[i] = fixed;
+    }
+    return fixed;
+  }
+
+  /**
+   * Gets the number of days elapsed from the epoch to the new year.
+   *
+   * @param year a year.
+   * @return the number of elapsed days.
+   */
+  private static long elapsedDays(int year) {
+    return delayHebrewYear(year) + delayHebrewYearAdjacent(year);
+  }
+
+  /**
+   * Delay start of new year so it doesn't fall on Sunday, Wednesday or
+   * Friday.
+   *
+   * @param year a year.
+   * @return the delay in days.
+   */
+  private static long delayHebrewYear(int year) {
+    long months = floorDiv((235L * year) - 234, 19);
+    long parts = 12084 + (13753 * months);
+    long day = (months * 29) + floorDiv(parts, 25920);
+    if (((3 * (day + 1)) % 7) < 3)
+      ++day;
+    return day;
+  }
+
+  /**
+   * Check for delay due to length of adjacent years.
+   *
+   * @param year a year.
+   * @return the delay in days.
+   */
+  private static int delayHebrewYearAdjacent(int year) {
+    long last = delayHebrewYear(year - 1);
+    long now = delayHebrewYear(year);
+    long next = delayHebrewYear(year + 1);
+    return ((next - now) == 356) ? 2 : (((now - last) == 382) ? 1 : 0);
+  }
+
+  /**
+   * Tables of Rosh Hashanah day numbers and year profiles, filled in as
+   * years are used.
+   * <p>
+   * The range of years defaults to 1 - 9999 and may be set at startup with
+   * the system properties "com.hm.cal.hebrew.firstYear" and
+   * "com.hm.cal.hebrew.lastYear". Years outside the range are computed on
+   * every call.
+   */
+  private static final class NewYearTable {
+    static final int FIRST_YEAR =
+      Math.max(1, Integer.getInteger("com.hm.cal.hebrew.firstYear", 1));
+    static final int LAST_YEAR =
+      Integer.getInteger("com.hm.cal.hebrew.lastYear", 9999);
+    static final int[] NEW_YEARS =
+      new int[Math.max(0, LAST_YEAR - FIRST_YEAR + 1)];
+    static final HebrewYearProfile[] PROFILES =
+      new HebrewYearProfile[NEW_YEARS.length];
+  }
+
 }
@@ -0,0 +1,191 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+/**
+ * The shape of a single Hebrew year.
+ * <p>
+ * A profile holds the day on which a year begins, its length and the
+ * lengths of its months. Profiles are immutable and are cached by
+ * {@link HebrewCalendar#getYearProfile(int)}, so month lengths and day
+ * stepping never need to repeat the new year calculation.
+ * <p>
+ * A year's months depend only on whether it is a leap year and whether it
+ * is deficient, regular or complete, so every profile shares one of six
+ * month tables.
+ *
+ * @since 2026.10.16
+ */
+public final class HebrewYearProfile {
+
+  private final int _year;
+  private final long _newYear;
+  private final int _length;
+  private final int[] _starts;
+  private final int[] _lengths;
+
+  /**
+   * Constructs a Hebrew year profile.
+   *
+   * @param year    a year.
+   * @param newYear the fixed day number of 1 Tishri.
+   * @param length  the number of days in the year.
+   */
+  HebrewYearProfile(int year, long newYear, int length) {
+    int type = ((length > 380) ? 3 : 0) + ((length % 10) - 3);
+    _year = year;
+    _newYear = newYear;
+    _length = length;
+    _starts = _monthStarts[type];
+    _lengths = _monthLengths[type];
+  }
+
+  /**
+   * Gets the year.
+   *
+   * @return the year.
+   */
+  public int getYear() {
+    return _year;
+  }
+
+  /**
+   * Gets the fixed day number of the first day of the year (1 Tishri).
+   *
+   * @return the fixed day number.
+   */
+  public long getNewYear() {
+    return _newYear;
+  }
+
+  /**
+   * Gets the number of days in the year.
+   *
+   * @return the number of days in the year.
+   */
+  public int getNumberOfDays() {
+    return _length;
+  }
+
+  /**
+   * Determines whether the year is a leap year.
+   *
+   * @return true, if a leap year; false, otherwise.
+   */
+  public boolean isLeapYear() {
+    return _length > 380;
+  }
+
+  /**
+   * Gets the number of months in the year.
+   *
+   * @return the number of months in the year.
+   */
+  public int getNumberOfMonths() {
+    return isLeapYear() ? 13 : 12;
+  }
+
+  /**
+   * Gets the number of days in a month.
+   *
+   * @param month a month [1-13].
+   * @return the number of days in the month.
+   */
+  public int getNumberOfDaysInMonth(int month) {
+    return _lengths[month];
+  }
+
+  /**
+   * Gets the number of days from the first day of the year to the first
+   * day of a month.
+   *
+   * @param month a month [1-13].
+   * @return the day of the year on which the month begins, from zero.
+   */
+  public int getMonthStart(int month) {
+    return _starts[month];
+  }
+
+  /**
+   * Gets the month containing a day of the year.
+   *
+   * @param yearDay a day of the year, from zero.
+   * @return the month [1-13].
+   */
+  public int getMonth(int yearDay) {
+    int months = getNumberOfMonths();
+    int month = 7;
+    for (int next = 8; next != 7; next = (next == months) ? 1 : next + 1) {
+      if (_starts[next] > yearDay) break;
+      month = next;
+    }
+    return month;
+  }
+
+  /**
+   * Gets the month lengths of the year.
+   *
+   * @return an array of month lengths, starting with Nisan.
+   */
+  public int[] getDaysPerMonth() {
+    int[] days = new int[getNumberOfMonths()];
+    System.arraycopy(_lengths, 1, days, 0, days.length);
+    return days;
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  // Month starts and lengths for each year type, indexed by month [1-13].
+  private static final int[][] _monthStarts = new int[6][14];
+  private static final int[][] _monthLengths = new int[6][14];
+
+  static {
+    for (int type = 0; type < _monthStarts.length; ++type) {
+      boolean leap = (type >= 3);
+      int kind = type % 3;
+      int months = leap ? 13 : 12;
+      int offset = 0;
+      for (int i = 0; i < months; ++i) {
+        int month = ((i + 6) % months) + 1;
+        int length = monthLength(month, leap, kind);
+        _monthStarts[type][month] = offset;
+        _monthLengths[type][month] = length;
+        offset += length;
+      }
+    }
+  }
+
+  /**
+   * Gets the length of a month in a year of a given type.
+   *
+   * @param month a month [1-13].
+   * @param leap  true, if a leap year; false, otherwise.
+   * @param kind  0, 1 or 2 for a deficient, regular or complete year.
+   * @return the number of days in the month.
+   */
+  private static int monthLength(int month, boolean leap, int kind) {
+    if (month == 2 || month == 4 || month == 6 || month == 10 || month == 13)
+      return 29;
+    if (month == 12 && !leap)
+      return 29;
+    if (month == 8 && kind != 2)
+      return 29;
+    if (month == 9 && kind == 0)
+      return 29;
+    return 30;
+  }
+}
@@ -5,37 +5,329 @@
  ****************************************************************************/
 package com.hm.cal.date;
 
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.constants.CalendarConstants.IndianCivilCalendarConstants.monthNames;
+import static com.hm.cal.constants.CalendarConstants.IndianCivilCalendarConstants.weekDayNames;
+import static com.hm.cal.util.AlmanacConverter.toIndianCivilCalendar;
+import static com.hm.cal.util.PackedDate.pack;
+
 /**
+ * A date in the Indian Civil Calendar.
+ * <p>
+ * The Indian Civil (or National) Calendar was adopted in 1957 alongside the
+ * Gregorian calendar. Years are counted in the Saka era, which begins 78
+ * years after the Common Era, and are aligned with the Gregorian year:
+ * 1 Chaitra falls on March 22, or on March 21 in Gregorian leap years.
+ * <p>
+ * Chaitra has 30 days, or 31 in leap years; the next five months have 31
+ * days and the last six have 30.
+ *
  * @since 2016.05.17
  */
 public class IndianCivilCalendar extends Almanac {
+
+  public static final String CALENDAR_NAME = "Indian Civil Calendar";
+  public static final JulianDay EPOCH = JulianDay.constant(1749994.5);
+
+  // Gregorian year = Saka year + 78.
+  private static final int _sakaOffset = 78;
+
+  /**
+   * Constructs an Indian Civil date set to today's date.
+   */
+  public IndianCivilCalendar() {
+    this(new JulianDay());
+  }
+
+  /**
+   * Constructs an Indian Civil date from an Almanac.
+   *
+   * @param a an Almanac.
+   */
+  public IndianCivilCalendar(Almanac a) {
+    this(toIndianCivilCalendar(a));
+  }
+
+  /**
+   * Constructs an Indian Civil date from another Indian Civil date.
+   *
+   * @param date an Indian Civil date.
+   */
+  public IndianCivilCalendar(IndianCivilCalendar date) {
+    this(date.getYear(), date.getMonth(), date.getDay());
+  }
+
+  /**
+   * Constructs an Indian Civil date.
+   *
+   * @param year  a Saka year.
+   * @param month a month [1-12].
+   * @param day   a day.
+   */
+  public IndianCivilCalendar(int year, int month, int day) {
+    super();
+    this.year = year;
+    this.month = month;
+    this.day = day;
+  }
+
+  /**
+   * Returns today's date as a string.
+   * Convenience static method.
+   *
+   * @return today's date.
+   */
+  public static String asToday() {
+    return (new IndianCivilCalendar()).toString();
+  }
+
+  /**
+   * Determines whether a given year is a leap year.
+   * A Saka year is a leap year if its Gregorian year is.
+   *
+   * @param year a Saka year.
+   * @return true, if a leap year; false, otherwise.
+   */
+  public static boolean isLeapYear(int year) {
+    return GregorianCalendar.isLeapYear(year + _sakaOffset, false);
+  }
+
+  /**
+   * Gets the number of days in a given month in a given year.
+   *
+   * @param year  a Saka year.
+   * @param month a month [1-12].
+   * @return the number of days in the month.
+   */
+  public static int getNumberOfDaysInMonth(int year, int month) {
+    if (month == 1) return isLeapYear(year) ? 31 : 30;
+    return (month <= 6) ? 31 : 30;
+  }
+
+  /**
+   * Gets a month name.
+   *
+   * @param month a month number [1-12].
+   * @return a month name.
+   * @throws IndexOutOfBoundsException
+   */
+  public static String getMonthName(int month)
+    throws IndexOutOfBoundsException {
+    return monthNames[month - 1];
+  }
+
+  /**
+   * Converts a date to its fixed day number.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param year  a Saka year.
+   * @param month a month [1-12].
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day) {
+    boolean leap = isLeapYear(year);
+    return newYear(year, leap) + daysBeforeMonth(month, leap) + (day - 1);
+  }
+
+  /**
+   * Converts a fixed day number to a date.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed) {
+    int year = PackedDate.getYear(GregorianCalendar.fromFixed(fixed))
+      - _sakaOffset;
+    boolean leap = isLeapYear(year);
+    long newYear = newYear(year, leap);
+    if (fixed < newYear) {
+      leap = isLeapYear(--year);
+      newYear = newYear(year, leap);
+    }
+    int days = (int) (fixed - newYear);
+    int chaitra = leap ? 31 : 30;
+    if (days < chaitra)
+      return pack(year, 1, days + 1);
+    days -= chaitra;
+    if (days < 155)
+      return pack(year, (days / 31) + 2, (days % 31) + 1);
+    days -= 155;
+    return pack(year, (days / 30) + 7, (days % 30) + 1);
+  }
+
+  /**
+   * Gets this month's name.
+   *
+   * @return the name of this month.
+   */
+  public String getMonthName() {
+    return IndianCivilCalendar.getMonthName(this.month);
+  }
+
+  /**
+   * Determines whether this date's year is a leap year.
+   *
+   * @return true, if this is a leap year; false, otherwise.
+   */
+  public boolean isLeapYear() {
+    return IndianCivilCalendar.isLeapYear(this.year);
+  }
+
+  /**
+   * Gets the date.
+   *
+   * @return the date.
+   */
   @Override
   public String getDate() {
-    return null;
+    return new String(getDay() + " " +
+      getMonthName() + ", " +
+      getYear());
   }
 
+  /**
+   * Gets the name of this calendar.
+   *
+   * @return the name of this calendar.
+   */
   @Override
   public String getName() {
-    return null;
+    return CALENDAR_NAME;
+  }
+
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    return CalendarSystems.get(CalendarId.INDIAN_CIVIL);
+  }
+
+  /**
+   * Gets the month names.
+   *
+   * @return an array[12] containing the month names.
+   */
+  @Override
+  public String[] getMonths() {
+    return monthNames.clone();
   }
 
+  /**
+   * Gets the week day names.
+   *
+   * @return an array[7] containing the week day names.
+   */
+  @Override
+  public String[] getWeekDays() {
+    return weekDayNames.clone();
+  }
+
+  /**
+   * Gets the name for this week day.
+   *
+   * @return the name for this week day.
+   */
+  @Override
+  public String getWeekDay() {
+    return weekDayNames[getWeekDayNumber()];
+  }
+
+  /**
+   * Gets the number of days in this month.
+   *
+   * @return the number of days in this month.
+   */
   @Override
   public int getNumberOfDaysInMonth() {
-    return 0;
+    return IndianCivilCalendar.getNumberOfDaysInMonth(this.year, this.month);
   }
 
+  /**
+   * Gets the number of days in a week.
+   *
+   * @return the number of days in a week.
+   */
   @Override
   public int getNumberOfDaysInWeek() {
-    return 0;
+    return 7;
   }
 
+  /**
+   * Gets the number of months in a year.
+   *
+   * @return the number of months in a year.
+   */
   @Override
   public int getNumberOfMonthsInYear() {
-    return 0;
+    return 12;
   }
 
+  /**
+   * Sets this calendar using another Almanac.
+   *
+   * @param a an Almanac.
+   */
   @Override
   public void set(Almanac a) {
+    long date = fromFixed(AlmanacConverter.toFixed(a));
+    this.year = PackedDate.getYear(date);
+    this.month = PackedDate.getMonth(date);
+    this.day = PackedDate.getDay(date);
+  }
+
+  @Override
+  public String toString() {
+    return new String(CALENDAR_NAME + ": " + getDate());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof IndianCivilCalendar))
+      return false;
+    if (obj == this)
+      return true;
+
+    final IndianCivilCalendar date = (IndianCivilCalendar) obj;
+    return hasSameDate(date);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashDate();
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  /**
+   * Gets the fixed day number of 1 Chaitra of a given year.
+   *
+   * @param year a Saka year.
+   * @param leap true, if the year is a leap year.
+   * @return the fixed day number of 1 Chaitra.
+   */
+  private static long newYear(int year, boolean leap) {
+    return GregorianCalendar.toFixed(year + _sakaOffset, 3, leap ? 21 : 22);
+  }
 
+  /**
+   * Gets the number of days in a year before a given month.
+   *
+   * @param month a month [1-12].
+   * @param leap  true, if the year is a leap year.
+   * @return the number of days before the month.
+   */
+  private static int daysBeforeMonth(int month, boolean leap) {
+    if (month == 1) return 0;
+    int days = leap ? 31 : 30;
+    return (month <= 7) ? days + (31 * (month - 2))
+                        : days + 155 + (30 * (month - 7));
   }
 }
@@ -15,13 +15,19 @@
  *****************************************************************************/
 package com.hm.cal.date;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
 import org.joda.time.DateTime;
 
 import static com.hm.cal.constants.CalendarConstants.IslamicCalendarConstants.monthNames;
 import static com.hm.cal.constants.CalendarConstants.IslamicCalendarConstants.weekDayNames;
 import static com.hm.cal.util.AlmanacConverter.toIslamicCalendar;
+import static com.hm.cal.util.PackedDate.pack;
+import static com.hm.cal.util.Util.floorDiv;
+import static com.hm.cal.util.Util.floorMod;
 
 /**
  * An Islamic (Hijri) calendar date.
@@ -54,18 +60,27 @@ import static com.hm.cal.util.AlmanacConverter.toIslamicCalendar;
 public class IslamicCalendar extends Almanac {
 
   public static final String CALENDAR_NAME = "Islamic Calendar";
-  public static final JulianDay EPOCH = new JulianDay(1948439.5);
+  public static final JulianDay EPOCH = JulianDay.constant(1948439.5);
+  private static final long _fixedEpoch = JulianDay.toFixed(EPOCH.getValue());
 
-  private CalendarType calendarType;
-  private LeapYearRule leapYearRule;
+  private static final CalendarType[] _calendarTypes = CalendarType.values();
+  private static final LeapYearRule[] _leapYearRules = LeapYearRule.values();
+
+  // The calendar type and the leap year rule, packed into a single byte.
+  private byte _rules;
 
   /**
    * The calendar type (astronomical versus civil).
    * This determines the starting epoch.
+   * <p>
+   * The Umm al-Qura type is the official calendar of Saudi Arabia. Its
+   * month lengths are read from a table for the years 1300 - 1600, and it
+   * ignores the leap year rule.
    */
   public enum CalendarType {
     CIVIL        (0),
-    ASTRONOMICAL (1);
+    ASTRONOMICAL (1),
+    UMM_AL_QURA  (2);
 
     private final int value;
 
@@ -172,8 +187,99 @@ public class IslamicCalendar extends Almanac {
     this.year = year;
     this.month = month;
     this.day = day;
-    this.calendarType = calendarType;
-    this.leapYearRule = leapYearRule;
+    _rules = rules(calendarType, leapYearRule);
+  }
+
+  /**
+   * Converts a civil date to its fixed day number.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param year  a year.
+   * @param month a month [1-12].
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day) {
+    return toFixed(year, month, day, CalendarType.CIVIL);
+  }
+
+  /**
+   * Converts a date to its fixed day number.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param year         a year.
+   * @param month        a month [1-12].
+   * @param day          a day.
+   * @param calendarType a calendar type.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day, CalendarType calendarType) {
+    return toFixed(year, month, day, calendarType, LeapYearRule.WEST_ISLAMIC);
+  }
+
+  /**
+   * Converts a date to its fixed day number.
+   * <p>
+   * Leap days are counted in closed form from the 30-year cycle of the
+   * leap year rule. This conversion is integer-only and allocation-free.
+   *
+   * @param year         a year.
+   * @param month        a month [1-12].
+   * @param day          a day.
+   * @param calendarType a calendar type.
+   * @param leapYearRule a leap year rule.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day,
+                             CalendarType calendarType,
+                             LeapYearRule leapYearRule) {
+    if (calendarType == CalendarType.UMM_AL_QURA)
+      return UmmAlQuraTable.toFixed(year, month, day);
+    return day +
+      ((59 * (month - 1)) + 1) / 2 +
+      ((year - 1) * 354L) +
+      floorDiv((11L * year) + leapShift(leapYearRule) - 11, 30) +
+      _fixedEpoch - calendarType.getValue() - 1;
+  }
+
+  /**
+   * Converts a fixed day number to a civil date.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed) {
+    return fromFixed(fixed, CalendarType.CIVIL, LeapYearRule.WEST_ISLAMIC);
+  }
+
+  /**
+   * Converts a fixed day number to a date.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param fixed        a fixed day number.
+   * @param calendarType a calendar type.
+   * @param leapYearRule a leap year rule.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed, CalendarType calendarType,
+                               LeapYearRule leapYearRule) {
+    if (calendarType == CalendarType.UMM_AL_QURA)
+      return UmmAlQuraTable.fromFixed(fixed);
+    long newYear = _fixedEpoch - calendarType.getValue();
+    long days = fixed - newYear;
+    int year = (int) floorDiv((30 * days) + 29 - leapShift(leapYearRule),
+      10631) + 1;
+    newYear += ((year - 1) * 354L) +
+      floorDiv((11L * year) + leapShift(leapYearRule) - 11, 30);
+    days = fixed - newYear;
+    int month = (int) Math.min(12, -floorDiv(58 - (2 * days), 59) + 1);
+    int day = (int) (days - (((59 * (month - 1)) + 1) / 2)) + 1;
+    return pack(year, month, day);
   }
 
   /**
@@ -193,7 +299,7 @@ public class IslamicCalendar extends Almanac {
    * @return the names of the months.
    */
   public static String[] getMonthNames() {
-    return monthNames;
+    return monthNames.clone();
   }
 
   /**
@@ -221,6 +327,21 @@ public class IslamicCalendar extends Almanac {
     return 29;
   }
 
+  /**
+   * Gets the number of days in a given month.
+   *
+   * @param month a month
+   * @param year a year
+   * @param calendarType a calendar type
+   * @param leapYearRule a leap year rule
+   * @return the number of days in a month
+   */
+  public static int getNumberOfDaysInMonthInYear(int month, int year, CalendarType calendarType, LeapYearRule leapYearRule) {
+    if (calendarType == CalendarType.UMM_AL_QURA)
+      return UmmAlQuraTable.getNumberOfDaysInMonth(year, month);
+    return getNumberOfDaysInMonthInYear(month, year, leapYearRule);
+  }
+
   /**
    * Gets the number of days in a year.
    * Note: this method employs a base-16 leap year rule.
@@ -278,7 +399,10 @@ public class IslamicCalendar extends Almanac {
    * @return an array[12] of day counts per month
    */
   public int[] getDaysPerMonthInYear() {
-    return IslamicCalendar.getDaysPerMonthInYear(year,leapYearRule);
+    int[] days = new int[12];
+    for (int i=0; i<12; ++i)
+      days[i] = getNumberOfDaysInMonthInYear(i+1,year,getCalendarType(),getLeapYearRule());
+    return days;
   }
 
   /**
@@ -309,19 +433,7 @@ public class IslamicCalendar extends Almanac {
    * @return true, if a leap year; false, otherwise.
    */
   public static boolean isLeapYear(int year, LeapYearRule leapYearRule) {
-    int shift = 14;        // Default is WEST_ISLAMIC
-    switch(leapYearRule) {
-      case HABASH_AL_HASIB:
-        shift = 9;
-        break;
-      case TAIYABI_ISMAILI:
-        shift = 11;
-        break;
-      case EAST_ISLAMIC:
-        shift = 15;
-        break;
-    }
-    return ((((year*11)+shift) % 30) < 11);
+    return floorMod((year * 11L) + leapShift(leapYearRule), 30) < 11;
   }
 
   /**
@@ -330,7 +442,9 @@ public class IslamicCalendar extends Almanac {
    * @return true, if a leap year; false, otherwise.
    */
   public boolean isLeapYear() {
-    return IslamicCalendar.isLeapYear(year,leapYearRule);
+    if (getCalendarType() == CalendarType.UMM_AL_QURA)
+      return UmmAlQuraTable.getNumberOfDaysInYear(year) > 354;
+    return IslamicCalendar.isLeapYear(year,getLeapYearRule());
   }
 
   /**
@@ -339,9 +453,10 @@ public class IslamicCalendar extends Almanac {
    * @param leapYearRule a leap year rule.
    */
   public void setLeapYearRule(LeapYearRule leapYearRule) {
-    if (this.leapYearRule != leapYearRule) {
+    if (getLeapYearRule() != leapYearRule) {
+      invalidateDayNumber();
     }
-    this.leapYearRule = leapYearRule;
+    _rules = rules(getCalendarType(), leapYearRule);
   }
 
   /**
@@ -350,7 +465,7 @@ public class IslamicCalendar extends Almanac {
    * @return the leap year rule.
    */
   public LeapYearRule getLeapYearRule() {
-    return leapYearRule;
+    return _leapYearRules[_rules >> 4];
   }
 
   /**
@@ -359,7 +474,8 @@ public class IslamicCalendar extends Almanac {
    * @param calendarType a calendar type
    */
   public void setCalendarType(CalendarType calendarType) {
-    this.calendarType = calendarType;
+    _rules = rules(calendarType, getLeapYearRule());
+    invalidateDayNumber();
   }
 
   /**
@@ -368,7 +484,7 @@ public class IslamicCalendar extends Almanac {
    * @return the calendar type
    */
   public CalendarType getCalendarType() {
-    return calendarType;
+    return _calendarTypes[_rules & 0xF];
   }
 
   /**
@@ -378,10 +494,11 @@ public class IslamicCalendar extends Almanac {
    */
   @Override
   public void set(Almanac a) {
-    IslamicCalendar cal = toIslamicCalendar(a);
-    this.year = cal.getYear();
-    this.month = cal.getMonth();
-    this.day = cal.getDay();
+    long date = fromFixed(AlmanacConverter.toFixed(a), getCalendarType(),
+      getLeapYearRule());
+    this.year = PackedDate.getYear(date);
+    this.month = PackedDate.getMonth(date);
+    this.day = PackedDate.getDay(date);
   }
 
   /**
@@ -391,7 +508,7 @@ public class IslamicCalendar extends Almanac {
    */
   @Override
   public String[] getMonths() {
-    return monthNames;
+    return monthNames.clone();
   }
 
   /**
@@ -411,7 +528,7 @@ public class IslamicCalendar extends Almanac {
    */
   @Override
   public String[] getWeekDays() {
-    return weekDayNames;
+    return weekDayNames.clone();
   }
 
   /**
@@ -421,7 +538,7 @@ public class IslamicCalendar extends Almanac {
    */
   @Override
   public int getNumberOfDaysInMonth() {
-    return IslamicCalendar.getNumberOfDaysInMonthInYear(getMonth(),getYear());
+    return IslamicCalendar.getNumberOfDaysInMonthInYear(getMonth(),getYear(),getCalendarType(),getLeapYearRule());
   }
 
   /**
@@ -468,6 +585,13 @@ public class IslamicCalendar extends Almanac {
     return CALENDAR_NAME;
   }
 
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    if (getCalendarType() == CalendarType.UMM_AL_QURA)
+      return CalendarSystems.get(CalendarId.ISLAMIC_UMM_AL_QURA);
+    return CalendarSystems.get(CalendarId.ISLAMIC);
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (!(obj instanceof IslamicCalendar))
@@ -476,24 +600,46 @@ public class IslamicCalendar extends Almanac {
       return true;
 
     final IslamicCalendar date = (IslamicCalendar) obj;
-    return new EqualsBuilder()
-      .append(this.day, date.getDay())
-      .append(this.month, date.getMonth())
-      .append(this.year, date.getYear())
-      .append(this.calendarType, date.getCalendarType())
-      .append(this.leapYearRule, date.getLeapYearRule())
-      .isEquals();
+    return hasSameDate(date) && _rules == date._rules;
   }
 
   @Override
   public int hashCode() {
-    return new HashCodeBuilder()
-      .append(this.day)
-      .append(this.month)
-      .append(this.year)
-      .append(this.calendarType)
-      .append(this.leapYearRule)
-      .toHashCode();
+    return 31 * hashDate() + _rules;
   }
 
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  /**
+   * Packs a calendar type and a leap year rule into a byte.
+   *
+   * @param calendarType a calendar type.
+   * @param leapYearRule a leap year rule.
+   * @return the packed rules.
+   */
+  private static byte rules(CalendarType calendarType,
+                            LeapYearRule leapYearRule) {
+    return (byte) ((leapYearRule.ordinal() << 4) | calendarType.ordinal());
+  }
+
+  /**
+   * Gets the shift that places a leap year rule's leap years in the 30-year
+   * cycle. A year is a leap year when (11 * year + shift) mod 30 < 11.
+   *
+   * @param leapYearRule a leap year rule.
+   * @return the shift.
+   */
+  private static int leapShift(LeapYearRule leapYearRule) {
+    switch (leapYearRule) {
+      case HABASH_AL_HASIB:
+        return 9;
+      case TAIYABI_ISMAILI:
+        return 11;
+      case EAST_ISLAMIC:
+        return 15;
+      default:
+        return 14;
+    }
+  }
 }
@@ -15,13 +15,18 @@
  *****************************************************************************/
 package com.hm.cal.date;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
 import org.joda.time.DateTime;
 
 import static com.hm.cal.constants.CalendarConstants.JulianCalendarConstants.monthNames;
 import static com.hm.cal.constants.CalendarConstants.JulianCalendarConstants.weekDayNames;
 import static com.hm.cal.util.AlmanacConverter.toJulianCalendar;
+import static com.hm.cal.util.PackedDate.pack;
+import static com.hm.cal.util.Util.floorDiv;
 
 /**
  * A date in the Julian calendar.
@@ -32,7 +37,8 @@ import static com.hm.cal.util.AlmanacConverter.toJulianCalendar;
 public final class JulianCalendar extends Almanac {
 
   public static final String CALENDAR_NAME = "Julian Calendar";
-  public static final JulianDay EPOCH = new JulianDay(2299160.5);
+  public static final JulianDay EPOCH = JulianDay.constant(2299160.5);
+  private static final String[] _months = getMonthNames(false);
 
   /**
    * Constructs a Julian date using today's date.
@@ -107,6 +113,48 @@ public final class JulianCalendar extends Almanac {
     return (year % 4 == 0);
   }
 
+  /**
+   * Converts a date to its fixed day number.
+   * <p>
+   * Since there is no year "0", the year preceding 1 AD is -1. This
+   * conversion is integer-only and allocation-free.
+   *
+   * @param year  a year.
+   * @param month a month [1-12].
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day) {
+    if (year < 1) year++;
+    long a = (14 - month) / 12;
+    long y = year + 4800L - a;
+    long m = month + (12 * a) - 3;
+    return day + ((153 * m) + 2) / 5 + (365 * y) + floorDiv(y, 4) - 32083;
+  }
+
+  /**
+   * Converts a fixed day number to a date.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed) {
+    long c = fixed + 32082;
+    long d = floorDiv((4 * c) + 3, 1461);
+    long e = c - floorDiv(1461 * d, 4);
+    long m = ((5 * e) + 2) / 153;
+    int day = (int) (e - ((153 * m) + 2) / 5 + 1);
+    int month = (int) (m + 3 - (12 * (m / 10)));
+    int year = (int) (d - 4800 + (m / 10));
+
+    // Since there's no "0" year.
+    if (year < 1) year--;
+
+    return pack(year, month, day);
+  }
+
   /**
    * Gets a month name.
    *
@@ -218,10 +266,10 @@ public final class JulianCalendar extends Almanac {
    */
   @Override
   public void set(Almanac a) {
-    JulianCalendar cal = toJulianCalendar(a);
-    this.year = cal.getYear();
-    this.month = cal.getMonth();
-    this.day = cal.getDay();
+    long date = fromFixed(AlmanacConverter.toFixed(a));
+    this.year = PackedDate.getYear(date);
+    this.month = PackedDate.getMonth(date);
+    this.day = PackedDate.getDay(date);
   }
 
   /**
@@ -231,7 +279,7 @@ public final class JulianCalendar extends Almanac {
    */
   @Override
   public String[] getMonths() {
-    return JulianCalendar.getMonthNames(false);
+    return _months.clone();
   }
 
   /**
@@ -251,7 +299,7 @@ public final class JulianCalendar extends Almanac {
    */
   @Override
   public String[] getWeekDays() {
-    return weekDayNames;
+    return weekDayNames.clone();
   }
 
   /**
@@ -307,6 +355,11 @@ public final class JulianCalendar extends Almanac {
     return CALENDAR_NAME;
   }
 
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    return CalendarSystems.get(CalendarId.JULIAN);
+  }
+
 /////////////////////////////////////////////////////////////////////////////
 // private
 
@@ -318,20 +371,12 @@ public final class JulianCalendar extends Almanac {
       return true;
 
     final JulianCalendar date = (JulianCalendar) obj;
-    return new EqualsBuilder()
-      .append(this.year, date.getYear())
-      .append(this.month, date.getMonth())
-      .append(this.day, date.getDay())
-      .isEquals();
+    return hasSameDate(date);
   }
 
   @Override
   public int hashCode() {
-    return new HashCodeBuilder()
-      .append(this.year)
-      .append(this.month)
-      .append(this.day)
-      .toHashCode();
+    return hashDate();
   }
 
 }
@@ -15,8 +15,7 @@
  *****************************************************************************/
 package com.hm.cal.date;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
+import com.hm.cal.system.CalendarSystem;
 import org.joda.time.DateTime;
 
 import static com.hm.cal.util.AlmanacConverter.toJulianDay;
@@ -36,8 +35,14 @@ import static com.hm.cal.util.AlmanacConverter.toJulianDay;
 public final class JulianDay extends Almanac {
 
   public static final String CALENDAR_NAME = "Julian Day";
-  public static JulianDay EPOCH = new JulianDay(2400000.5);
+  private static final double _modifiedEpoch = 2400000.5;
+
+  /**
+   * The epoch of the Modified Julian Day. This constant is read-only.
+   */
+  public static final JulianDay EPOCH = constant(_modifiedEpoch);
   private double _jday;
+  private final boolean _readOnly;
 
   /**
    * A Julian Day.
@@ -56,7 +61,7 @@ public final class JulianDay extends Almanac {
    * @param jd A Julian Day.
    */
   public JulianDay(double jd) {
-    _jday = jd;
+    this(jd, false);
   }
 
   /**
@@ -104,6 +109,43 @@ public final class JulianDay extends Almanac {
     return (new JulianDay()).toString();
   }
 
+  /**
+   * Constructs a read-only Julian Day for use as a constant.
+   * Any attempt to change the day throws an
+   * {@link UnsupportedOperationException}.
+   *
+   * @param jd a Julian Day.
+   * @return the read-only Julian Day.
+   */
+  static JulianDay constant(double jd) {
+    return new JulianDay(jd, true);
+  }
+
+  /**
+   * Converts a Julian Day to its fixed day number.
+   * <p>
+   * The fixed day number is the Julian Day Number: the integer count of
+   * days whose noon coincides with the Julian Day. Every calendar's
+   * primitive conversion kernel is keyed on this number.
+   *
+   * @param jd a Julian Day.
+   * @return the fixed day number.
+   */
+  public static long toFixed(double jd) {
+    return (long) Math.floor(jd + 0.5);
+  }
+
+  /**
+   * Converts a fixed day number to a Julian Day.
+   * The returned Julian Day is set to midnight.
+   *
+   * @param fixed a fixed day number.
+   * @return the Julian Day.
+   */
+  public static double fromFixed(long fixed) {
+    return fixed - 0.5;
+  }
+
   /**
    * Gets the number of days in a month.
    * Note: Overloaded function; only returns one for this calendar.
@@ -159,14 +201,18 @@ public final class JulianDay extends Almanac {
    * Sets this Julian Day to noon.
    */
   public void setToNoon() {
+    checkWritable();
     _jday = (this.atNoon()).getValue();
+    invalidateDayNumber();
   }
 
   /**
    * Sets this Julian Day to midnight.
    */
   public void setToMidnight() {
+    checkWritable();
     _jday = (this.atMidnight()).getValue();
+    invalidateDayNumber();
   }
 
   /**
@@ -177,7 +223,7 @@ public final class JulianDay extends Almanac {
    * @return The Modified Julian Day.
    */
   public double getModified() {
-    return _jday - EPOCH.getValue();
+    return _jday - _modifiedEpoch;
   }
 
   /**
@@ -189,25 +235,50 @@ public final class JulianDay extends Almanac {
     return _jday;
   }
 
+  /**
+   * Gets the fixed day number of this day.
+   *
+   * @return the fixed day number.
+   */
+  public long getFixed() {
+    return JulianDay.toFixed(_jday);
+  }
+
+  /**
+   * Computes the fixed day number of this day.
+   *
+   * @return the fixed day number.
+   */
+  @Override
+  protected long computeDayNumber() {
+    return getFixed();
+  }
+
   /**
    * Subtracts days from this Julian day.
+   * This Julian Day is changed in place.
    *
    * @param days number of days to subtract.
    * @return n days before this day.
    */
   public JulianDay minus(int days) {
+    checkWritable();
     _jday -= days;
+    invalidateDayNumber();
     return this;
   }
 
   /**
    * Adds days to this Julian day.
+   * This Julian Day is changed in place.
    *
    * @param days number of days to add.
    * @return n days after this day.
    */
   public JulianDay plus(int days) {
+    checkWritable();
     _jday += days;
+    invalidateDayNumber();
     return this;
   }
 
@@ -218,8 +289,10 @@ public final class JulianDay extends Almanac {
    */
   @Override
   public void set(Almanac a) {
+    checkWritable();
     JulianDay cal = toJulianDay(a);
     _jday = cal.getValue();
+    invalidateDayNumber();
   }
 
   /**
@@ -227,7 +300,9 @@ public final class JulianDay extends Almanac {
    */
   @Override
   public void nextDay() {
+    checkWritable();
     _jday += 1;
+    invalidateDayNumber();
   }
 
   /**
@@ -235,7 +310,9 @@ public final class JulianDay extends Almanac {
    */
   @Override
   public void prevDay() {
+    checkWritable();
     _jday -= 1;
+    invalidateDayNumber();
   }
 
   /**
@@ -258,6 +335,17 @@ public final class JulianDay extends Almanac {
     return CALENDAR_NAME;
   }
 
+  /**
+   * Gets the calendar system that converts this date.
+   * A Julian Day is a day number and is not backed by a calendar system.
+   *
+   * @return null.
+   */
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    return null;
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (!(obj instanceof JulianDay))
@@ -266,16 +354,14 @@ public final class JulianDay extends Almanac {
       return true;
 
     final JulianDay date = (JulianDay) obj;
-    return new EqualsBuilder()
-      .append(_jday, date.getValue())
-      .isEquals();
+    return Double.doubleToLongBits(_jday) ==
+      Double.doubleToLongBits(date._jday);
   }
 
   @Override
   public int hashCode() {
-    return new HashCodeBuilder()
-      .append(_jday)
-      .toHashCode();
+    long bits = Double.doubleToLongBits(_jday);
+    return (int) (bits ^ (bits >>> 32));
   }
 
   @Override
@@ -283,4 +369,16 @@ public final class JulianDay extends Almanac {
     return (CALENDAR_NAME + ": " + getDate());
   }
 
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  private JulianDay(double jd, boolean readOnly) {
+    _jday = jd;
+    _readOnly = readOnly;
+  }
+
+  private void checkWritable() {
+    if (_readOnly)
+      throw new UnsupportedOperationException("Read-only Julian Day: " + _jday);
+  }
 }
@@ -15,10 +15,14 @@
  *****************************************************************************/
 package com.hm.cal.date;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.AlmanacConverter;
 
 import static com.hm.cal.util.AlmanacConverter.toMayaCalendar;
+import static com.hm.cal.util.Util.floorDiv;
+import static com.hm.cal.util.Util.floorMod;
 
 /**
  * A date in the Maya calendar.
@@ -60,17 +64,21 @@ import static com.hm.cal.util.AlmanacConverter.toMayaCalendar;
 public class MayaCalendar extends Almanac {
 
   public static final String CALENDAR_NAME = "Maya Calendar";
-  public static final JulianDay EPOCH = new JulianDay(584282.5);
-  private int _kin;
-  private int _uinal;
-  private int _tun;
-  private int _katun;
-  private int _baktun;
-  private int _piktun;
-  private int _kalabtun;
-  private int _kinchiltun;
-  private int _alautun;
-  private String[] _haabMonths = {
+  public static final JulianDay EPOCH = JulianDay.constant(584282.5);
+  private static final long _fixedEpoch = JulianDay.toFixed(EPOCH.getValue());
+  private static final long _luinal = 20L;
+  private static final long _ltun = 360L;
+  private static final long _lkatun = 7200L;
+  private static final long _lbaktun = 144000L;
+  private static final long _lpiktun = 2880000L;
+  private static final long _lkalabtun = 57600000L;
+  private static final long _lkinchiltun = 1152000000L;
+  private static final long _lalautun = 23040000000L;
+  private static final long _lround = 18980L;
+  private static final int _tzolkinEpoch = 159;
+  private static final int _haabEpoch = 348;
+  private long _date;
+  private static final String[] _haabMonths = {
     "Pop",
     "Wo'",
     "Sip",
@@ -91,7 +99,7 @@ public class MayaCalendar extends Almanac {
     "Kumk'u",
     "Wayeb"
   };
-  private String[] _tzolkinDayNames = {
+  private static final String[] _tzolkinDayNames = {
     "Imix'",
     "Ik'",
     "Ak'b'al",
@@ -141,16 +149,27 @@ public class MayaCalendar extends Almanac {
    * @param kin    a specified K'in.
    */
   public MayaCalendar(int baktun, int katun, int tun, int uinal, int kin) {
-    super();
-    _baktun = baktun;
-    _katun = katun;
-    _tun = tun;
-    _uinal = uinal;
-    _kin = kin;
+    this(0, 0, 0, 0, baktun, katun, tun, uinal, kin);
+  }
 
-    this.day = kin;
-    this.month = uinal;
-    this.year = tun;
+  /**
+   * Constructs a Maya calendar using the full Long Count.
+   *
+   * @param alautun    a specified Alautun.
+   * @param kinchiltun a specified K'inchiltun.
+   * @param kalabtun   a specified Kalabtun.
+   * @param piktun     a specified Piktun.
+   * @param baktun     a specified B'aktun.
+   * @param katun      a specified K'atun.
+   * @param tun        a specified Tun.
+   * @param uinal      a specified Uinal.
+   * @param kin        a specified K'in.
+   */
+  public MayaCalendar(int alautun, int kinchiltun, int kalabtun, int piktun,
+                      int baktun, int katun, int tun, int uinal, int kin) {
+    super();
+    setFixed(toFixed(alautun, kinchiltun, kalabtun, piktun,
+      baktun, katun, tun, uinal, kin));
   }
 
   /**
@@ -159,11 +178,419 @@ public class MayaCalendar extends Almanac {
    * @param cal a Maya calendar.
    */
   public MayaCalendar(MayaCalendar cal) {
-    this(cal.getBaktun(),
-      cal.getKatun(),
-      cal.getTun(),
-      cal.getUinal(),
-      cal.getKin());
+    this(cal.getDateValue());
+  }
+
+  /**
+   * Creates a Maya calendar from a packed Long Count date.
+   *
+   * @param date a packed Long Count date.
+   * @return the Maya calendar.
+   * @see #fromFixed(long)
+   */
+  public static MayaCalendar fromPacked(long date) {
+    return new MayaCalendar(date);
+  }
+
+  private MayaCalendar(long date) {
+    super();
+    setFixed(toFixed(date));
+  }
+
+  /**
+   * Converts a Long Count date to its fixed day number.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param baktun a B'aktun.
+   * @param katun  a K'atun.
+   * @param tun    a Tun.
+   * @param uinal  a Uinal.
+   * @param kin    a K'in.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int baktun, int katun, int tun, int uinal, int kin) {
+    return _fixedEpoch +
+      (baktun * _lbaktun) +
+      (katun * _lkatun) +
+      (tun * _ltun) +
+      (uinal * _luinal) +
+      kin;
+  }
+
+  /**
+   * Converts a full Long Count date to its fixed day number.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param alautun    an Alautun.
+   * @param kinchiltun a K'inchiltun.
+   * @param kalabtun   a Kalabtun.
+   * @param piktun     a Piktun.
+   * @param baktun     a B'aktun.
+   * @param katun      a K'atun.
+   * @param tun        a Tun.
+   * @param uinal      a Uinal.
+   * @param kin        a K'in.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int alautun, int kinchiltun, int kalabtun,
+                             int piktun, int baktun, int katun, int tun,
+                             int uinal, int kin) {
+    return toFixed(baktun, katun, tun, uinal, kin) +
+      (piktun * _lpiktun) +
+      (kalabtun * _lkalabtun) +
+      (kinchiltun * _lkinchiltun) +
+      (alautun * _lalautun);
+  }
+
+  /**
+   * Converts a packed Long Count date to its fixed day number.
+   *
+   * @param date a packed Long Count date.
+   * @return the fixed day number.
+   */
+  public static long toFixed(long date) {
+    return _fixedEpoch +
+      (getAlautun(date) * _lalautun) +
+      (getKinchiltun(date) * _lkinchiltun) +
+      (getKalabtun(date) * _lkalabtun) +
+      (getPiktun(date) * _lpiktun) +
+      (getBaktun(date) * _lbaktun) +
+      (getKatun(date) * _lkatun) +
+      (getTun(date) * _ltun) +
+      (getUinal(date) * _luinal) +
+      getKin(date);
+  }
+
+  /**
+   * Converts a fixed day number to a Long Count date.
+   * <p>
+   * Every unit from the K'in to the K'inchiltun is packed into 5 bits, with
+   * the signed Alautun occupying the upper 24 bits. Dates before the epoch
+   * have a negative Alautun, so every other unit is always in [0-19] (the
+   * Uinal in [0-17]). Use the static getters of this class to unpack the
+   * date. The packing is exact for fixed day numbers within about
+   * 8,000,000 Alautun of the epoch.
+   *
+   * @param fixed a fixed day number.
+   * @return the packed Long Count date.
+   */
+  public static long fromFixed(long fixed) {
+    long d = fixed - _fixedEpoch;
+    long alautun = floorDiv(d, _lalautun);
+    d = floorMod(d, _lalautun);
+    long kinchiltun = d / _lkinchiltun;
+    d %= _lkinchiltun;
+    long kalabtun = d / _lkalabtun;
+    d %= _lkalabtun;
+    long piktun = d / _lpiktun;
+    d %= _lpiktun;
+    long baktun = d / _lbaktun;
+    d %= _lbaktun;
+    long katun = d / _lkatun;
+    d %= _lkatun;
+    long tun = d / _ltun;
+    d %= _ltun;
+    long uinal = d / _luinal;
+    long kin = d % _luinal;
+    return (alautun << 40) | (kinchiltun << 35) | (kalabtun << 30) |
+      (piktun << 25) | (baktun << 20) | (katun << 15) | (tun << 10) |
+      (uinal << 5) | kin;
+  }
+
+  /**
+   * Gets the K'in of a packed Long Count date.
+   *
+   * @param date a packed Long Count date.
+   * @return the K'in.
+   */
+  public static int getKin(long date) {
+    return (int) (date & 0x1F);
+  }
+
+  /**
+   * Gets the Uinal of a packed Long Count date.
+   *
+   * @param date a packed Long Count date.
+   * @return the Uinal.
+   */
+  public static int getUinal(long date) {
+    return (int) ((date >>> 5) & 0x1F);
+  }
+
+  /**
+   * Gets the Tun of a packed Long Count date.
+   *
+   * @param date a packed Long Count date.
+   * @return the Tun.
+   */
+  public static int getTun(long date) {
+    return (int) ((date >>> 10) & 0x1F);
+  }
+
+  /**
+   * Gets the K'atun of a packed Long Count date.
+   *
+   * @param date a packed Long Count date.
+   * @return the K'atun.
+   */
+  public static int getKatun(long date) {
+    return (int) ((date >>> 15) & 0x1F);
+  }
+
+  /**
+   * Gets the B'aktun of a packed Long Count date.
+   *
+   * @param date a packed Long Count date.
+   * @return the B'aktun.
+   */
+  public static int getBaktun(long date) {
+    return (int) ((date >>> 20) & 0x1F);
+  }
+
+  /**
+   * Gets the Piktun of a packed Long Count date.
+   *
+   * @param date a packed Long Count date.
+   * @return the Piktun.
+   */
+  public static int getPiktun(long date) {
+    return (int) ((date >>> 25) & 0x1F);
+  }
+
+  /**
+   * Gets the Kalabtun of a packed Long Count date.
+   *
+   * @param date a packed Long Count date.
+   * @return the Kalabtun.
+   */
+  public static int getKalabtun(long date) {
+    return (int) ((date >>> 30) & 0x1F);
+  }
+
+  /**
+   * Gets the K'inchiltun of a packed Long Count date.
+   *
+   * @param date a packed Long Count date.
+   * @return the K'inchiltun.
+   */
+  public static int getKinchiltun(long date) {
+    return (int) ((date >>> 35) & 0x1F);
+  }
+
+  /**
+   * Gets the Alautun of a packed Long Count date.
+   *
+   * @param date a packed Long Count date.
+   * @return the Alautun.
+   */
+  public static int getAlautun(long date) {
+    return (int) (date >> 40);
+  }
+
+  /**
+   * Gets the Tzolk'in number [1-13] of a fixed day number.
+   *
+   * @param fixed a fixed day number.
+   * @return the Tzolk'in number.
+   */
+  public static int getTzolkinNumber(long fixed) {
+    return (int) floorMod(tzolkinPosition(fixed), 13) + 1;
+  }
+
+  /**
+   * Gets the Tzolk'in day name index [0-19] of a fixed day number.
+   * Index zero is Imix' and index 19 is Ajaw.
+   *
+   * @param fixed a fixed day number.
+   * @return the Tzolk'in day name index.
+   */
+  public static int getTzolkinDay(long fixed) {
+    return (int) floorMod(tzolkinPosition(fixed), 20);
+  }
+
+  /**
+   * Gets the Haab' day [0-19] of a fixed day number.
+   *
+   * @param fixed a fixed day number.
+   * @return the Haab' day.
+   */
+  public static int getHaabDay(long fixed) {
+    return haabPosition(fixed) % 20;
+  }
+
+  /**
+   * Gets the Haab' month index [0-18] of a fixed day number.
+   * Index zero is Pop and index 18 is the five day Wayeb.
+   *
+   * @param fixed a fixed day number.
+   * @return the Haab' month index.
+   */
+  public static int getHaabMonth(long fixed) {
+    return haabPosition(fixed) / 20;
+  }
+
+  /**
+   * Gets the name of a Tzolk'in day.
+   *
+   * @param day a Tzolk'in day name index [0-19].
+   * @return the name of the day.
+   */
+  public static String getTzolkinDayName(int day) {
+    return _tzolkinDayNames[day];
+  }
+
+  /**
+   * Gets the name of a Haab' month.
+   *
+   * @param month a Haab' month index [0-18].
+   * @return the name of the month.
+   */
+  public static String getHaabMonthName(int month) {
+    return _haabMonths[month];
+  }
+
+  /**
+   * Finds every fixed day number in a range that falls on a Calendar Round
+   * date.
+   * <p>
+   * A Calendar Round date pairs a Tzolk'in position with a Haab' position
+   * and repeats every 18,980 days. The first match is solved directly with
+   * the Chinese remainder theorem, so the cost of a query depends only on
+   * the number of matches, not on the length of the range. Only one in
+   * five pairings actually occurs; impossible pairings return no matches.
+   *
+   * @param number    the Tzolk'in number [1-13].
+   * @param day       the Tzolk'in day name index [0-19].
+   * @param haabDay   the Haab' day [0-19], or [0-4] in Wayeb.
+   * @param haabMonth the Haab' month index [0-18].
+   * @param from      the first fixed day number of the range.
+   * @param to        the last fixed day number of the range.
+   * @return the matching fixed day numbers in ascending order.
+   * @throws IllegalArgumentException if a position is out of range.
+   */
+  public static long[] findCalendarRound(
+    int number, int day, int haabDay, int haabMonth, long from, long to)
+  {
+    long r = calendarRoundPosition(number, day, haabDay, haabMonth);
+    if (r < 0 || to < from)
+      return new long[0];
+
+    long first = from + floorMod(r - (from - _fixedEpoch), _lround);
+    if (first > to)
+      return new long[0];
+
+    long[] days = new long[(int) ((to - first) / _lround) + 1];
+    for (int i = 0; i < days.length; ++i)
+      days[i] = first + i * _lround;
+    return days;
+  }
+
+  /**
+   * Gets the Calendar Round position [0-18979] of a Tzolk'in and Haab' pair,
+   * counted in days from the Long Count epoch 4 Ajaw 8 Kumk'u.
+   *
+   * @param number    the Tzolk'in number [1-13].
+   * @param day       the Tzolk'in day name index [0-19].
+   * @param haabDay   the Haab' day [0-19], or [0-4] in Wayeb.
+   * @param haabMonth the Haab' month index [0-18].
+   * @return the position in the Calendar Round; or -1 if the pair never
+   * occurs.
+   * @throws IllegalArgumentException if a position is out of range.
+   */
+  public static long calendarRoundPosition(
+    int number, int day, int haabDay, int haabMonth)
+  {
+    if (number < 1 || number > 13)
+      throw new IllegalArgumentException("Tzolk'in number: " + number);
+    if (day < 0 || day > 19)
+      throw new IllegalArgumentException("Tzolk'in day: " + day);
+    if (haabMonth < 0 || haabMonth > 18)
+      throw new IllegalArgumentException("Haab' month: " + haabMonth);
+    if (haabDay < 0 || haabDay > (haabMonth == 18 ? 4 : 19))
+      throw new IllegalArgumentException("Haab' day: " + haabDay);
+
+    // Tzolk'in position mod 260 from its residues mod 13 and mod 20,
+    // using 7 * 2 = 1 (mod 13) for 20 = 7 (mod 13).
+    long t = day + 20 * floorMod(2 * (number - 1 - day), 13);
+    t = floorMod(t - _tzolkinEpoch, 260);
+    long h = floorMod(20 * haabMonth + haabDay - _haabEpoch, 365);
+
+    // 260 and 365 share the factor 5, so both must agree mod 5. Then solve
+    // t + 260k = h (mod 365) using 52 * 66 = 1 (mod 73).
+    if ((h - t) % 5 != 0)
+      return -1;
+    long k = floorMod((h - t) / 5 * 66, 73);
+    return t + 260 * k;
+  }
+
+  /**
+   * Gets the fixed day number of this date.
+   *
+   * @return the fixed day number.
+   */
+  public long getFixed() {
+    return toFixed(_date);
+  }
+
+  /**
+   * Gets this date packed as a Long Count date.
+   *
+   * @return the packed Long Count date.
+   * @see #fromFixed(long)
+   */
+  public long getDateValue() {
+    return _date;
+  }
+
+  /**
+   * Gets the Tzolk'in number [1-13] of this date.
+   *
+   * @return the Tzolk'in number.
+   */
+  public int getTzolkinNumber() {
+    return getTzolkinNumber(getFixed());
+  }
+
+  /**
+   * Gets the Tzolk'in day name index [0-19] of this date.
+   *
+   * @return the Tzolk'in day name index.
+   */
+  public int getTzolkinDay() {
+    return getTzolkinDay(getFixed());
+  }
+
+  /**
+   * Gets the Haab' day [0-19] of this date.
+   *
+   * @return the Haab' day.
+   */
+  public int getHaabDay() {
+    return getHaabDay(getFixed());
+  }
+
+  /**
+   * Gets the Haab' month index [0-18] of this date.
+   *
+   * @return the Haab' month index.
+   */
+  public int getHaabMonth() {
+    return getHaabMonth(getFixed());
+  }
+
+  /**
+   * Gets the Calendar Round date of this date, e.g. "4 Ajaw 8 Kumk'u".
+   *
+   * @return the Calendar Round date.
+   */
+  public String getCalendarRound() {
+    long fixed = getFixed();
+    return getTzolkinNumber(fixed) + " " +
+      getTzolkinDayName(getTzolkinDay(fixed)) + " " +
+      getHaabDay(fixed) + " " +
+      getHaabMonthName(getHaabMonth(fixed));
   }
 
   /**
@@ -174,7 +601,7 @@ public class MayaCalendar extends Almanac {
    * @return This K'in.
    */
   public int getKin() {
-    return _kin;
+    return getKin(_date);
   }
 
   /**
@@ -183,7 +610,7 @@ public class MayaCalendar extends Almanac {
    * @param kin the K'in.
    */
   public void setKin(int kin) {
-    _kin = kin;
+    setFixed(getFixed() + (kin - getKin()));
   }
 
   /**
@@ -193,7 +620,7 @@ public class MayaCalendar extends Almanac {
    * @return This Uinal.
    */
   public int getUinal() {
-    return _uinal;
+    return getUinal(_date);
   }
 
   /**
@@ -202,7 +629,7 @@ public class MayaCalendar extends Almanac {
    * @param uinal the Uinal.
    */
   public void setUinal(int uinal) {
-    _uinal = uinal;
+    setFixed(getFixed() + ((uinal - getUinal()) * _luinal));
   }
 
   /**
@@ -212,7 +639,7 @@ public class MayaCalendar extends Almanac {
    * @return This Tun.
    */
   public int getTun() {
-    return _tun;
+    return getTun(_date);
   }
 
   /**
@@ -221,7 +648,7 @@ public class MayaCalendar extends Almanac {
    * @param tun the Tun.
    */
   public void setTun(int tun) {
-    _tun = tun;
+    setFixed(getFixed() + ((tun - getTun()) * _ltun));
   }
 
   /**
@@ -231,7 +658,7 @@ public class MayaCalendar extends Almanac {
    * @return This K'atun.
    */
   public int getKatun() {
-    return _katun;
+    return getKatun(_date);
   }
 
   /**
@@ -240,7 +667,7 @@ public class MayaCalendar extends Almanac {
    * @param katun the K'atun.
    */
   public void setKatun(int katun) {
-    _katun = katun;
+    setFixed(getFixed() + ((katun - getKatun()) * _lkatun));
   }
 
 /////////////////////////////////////////////////////////////////////////////
@@ -253,7 +680,7 @@ public class MayaCalendar extends Almanac {
    * @return This B'aktun.
    */
   public int getBaktun() {
-    return _baktun;
+    return getBaktun(_date);
   }
 
   /**
@@ -262,7 +689,85 @@ public class MayaCalendar extends Almanac {
    * @param baktun the B'aktun.
    */
   public void setBaktun(int baktun) {
-    _baktun = baktun;
+    setFixed(getFixed() + ((baktun - getBaktun()) * _lbaktun));
+  }
+
+  /**
+   * Gets this Piktun.
+   * A Piktun is equal to 20 B'aktun, which is equal to 2,880,000 days.
+   *
+   * @return This Piktun.
+   */
+  public int getPiktun() {
+    return getPiktun(_date);
+  }
+
+  /**
+   * Sets this Piktun.
+   *
+   * @param piktun the Piktun.
+   */
+  public void setPiktun(int piktun) {
+    setFixed(getFixed() + ((piktun - getPiktun()) * _lpiktun));
+  }
+
+  /**
+   * Gets this Kalabtun.
+   * A Kalabtun is equal to 20 Piktun, which is equal to 57,600,000 days.
+   *
+   * @return This Kalabtun.
+   */
+  public int getKalabtun() {
+    return getKalabtun(_date);
+  }
+
+  /**
+   * Sets this Kalabtun.
+   *
+   * @param kalabtun the Kalabtun.
+   */
+  public void setKalabtun(int kalabtun) {
+    setFixed(getFixed() + ((kalabtun - getKalabtun()) * _lkalabtun));
+  }
+
+  /**
+   * Gets this K'inchiltun.
+   * A K'inchiltun is equal to 20 Kalabtun, which is equal to 1,152,000,000
+   * days.
+   *
+   * @return This K'inchiltun.
+   */
+  public int getKinchiltun() {
+    return getKinchiltun(_date);
+  }
+
+  /**
+   * Sets this K'inchiltun.
+   *
+   * @param kinchiltun the K'inchiltun.
+   */
+  public void setKinchiltun(int kinchiltun) {
+    setFixed(getFixed() + ((kinchiltun - getKinchiltun()) * _lkinchiltun));
+  }
+
+  /**
+   * Gets this Alautun.
+   * An Alautun is equal to 20 K'inchiltun, which is equal to 23,040,000,000
+   * days.
+   *
+   * @return This Alautun.
+   */
+  public int getAlautun() {
+    return getAlautun(_date);
+  }
+
+  /**
+   * Sets this Alautun.
+   *
+   * @param alautun the Alautun.
+   */
+  public void setAlautun(int alautun) {
+    setFixed(getFixed() + ((alautun - getAlautun()) * _lalautun));
   }
 
   /**
@@ -272,12 +777,53 @@ public class MayaCalendar extends Almanac {
    */
   @Override
   public void set(Almanac a) {
-    MayaCalendar cal = toMayaCalendar(a);
-    _kin = cal.getKin();
-    _uinal = cal.getUinal();
-    _tun = cal.getTun();
-    _katun = cal.getKatun();
-    _baktun = cal.getBaktun();
+    setFixed(AlmanacConverter.toFixed(a));
+  }
+
+  /**
+   * Sets the day, which is this K'in.
+   *
+   * @param day the K'in.
+   */
+  @Override
+  public void setDay(int day) {
+    setKin(day);
+  }
+
+  /**
+   * Sets the month, which is this Uinal.
+   *
+   * @param month the Uinal.
+   */
+  @Override
+  public void setMonth(int month) {
+    setUinal(month);
+  }
+
+  /**
+   * Sets the year, which is this Tun.
+   *
+   * @param year the Tun.
+   */
+  @Override
+  public void setYear(int year) {
+    setTun(year);
+  }
+
+  /**
+   * Sets this calendar to the next day.
+   */
+  @Override
+  public void nextDay() {
+    setFixed(getFixed() + 1);
+  }
+
+  /**
+   * Sets this calendar to the previous day.
+   */
+  @Override
+  public void prevDay() {
+    setFixed(getFixed() - 1);
   }
 
   /**
@@ -314,16 +860,27 @@ public class MayaCalendar extends Almanac {
 
   /**
    * Gets the date.
+   * The units above the B'aktun are only shown when any of them is set.
    *
    * @return the date.
    */
   @Override
   public String getDate() {
-    return new String(_baktun + "." +
-      _katun + "." +
-      _tun + "." +
-      _uinal + "." +
-      _kin);
+    if ((_date >> 25) != 0)
+      return getAlautun() + "." +
+        getKinchiltun() + "." +
+        getKalabtun() + "." +
+        getPiktun() + "." +
+        getBaktun() + "." +
+        getKatun() + "." +
+        getTun() + "." +
+        getUinal() + "." +
+        getKin();
+    return new String(getBaktun() + "." +
+      getKatun() + "." +
+      getTun() + "." +
+      getUinal() + "." +
+      getKin());
   }
 
   @Override
@@ -336,6 +893,11 @@ public class MayaCalendar extends Almanac {
     return CALENDAR_NAME;
   }
 
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    return CalendarSystems.get(CalendarId.MAYA);
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (!(obj instanceof MayaCalendar))
@@ -344,23 +906,32 @@ public class MayaCalendar extends Almanac {
       return true;
 
     final MayaCalendar date = (MayaCalendar) obj;
-    return new EqualsBuilder()
-      .append(_kin, date.getKin())
-      .append(_uinal, date.getUinal())
-      .append(_tun, date.getTun())
-      .append(_katun, date.getKatun())
-      .append(_baktun, date.getBaktun())
-      .isEquals();
+    return _date == date._date;
   }
 
   @Override
   public int hashCode() {
-    return new HashCodeBuilder()
-      .append(_kin)
-      .append(_uinal)
-      .append(_tun)
-      .append(_katun)
-      .append(_baktun)
-      .toHashCode();
+    return (int) (_date ^ (_date >>> 32));
+  }
+
+  /**
+   * Sets this date to a fixed day number.
+   *
+   * @param fixed a fixed day number.
+   */
+  private void setFixed(long fixed) {
+    _date = fromFixed(fixed);
+    this.day = getKin(_date);
+    this.month = getUinal(_date);
+    this.year = getTun(_date);
+    invalidateDayNumber();
+  }
+
+  private static long tzolkinPosition(long fixed) {
+    return fixed - _fixedEpoch + _tzolkinEpoch;
+  }
+
+  private static int haabPosition(long fixed) {
+    return (int) floorMod(fixed - _fixedEpoch + _haabEpoch, 365);
   }
 }
@@ -0,0 +1,106 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+/**
+ * An almanac that memoizes its fixed day number.
+ * <p>
+ * Calendars whose conversion is expensive, such as an astronomical new
+ * year search, extend this class. The day number is computed once and
+ * reused until the year, month or day changes, so comparing or sorting a
+ * date converts it only once. Cheap calendars extend {@link Almanac}
+ * directly and do not pay for the cache in every instance.
+ *
+ * @since 2026.10.16
+ */
+public abstract class MemoizedAlmanac extends Almanac {
+
+  private static final long serialVersionUID = 1L;
+
+  // The fixed day number, and the year, month and day it was computed for
+  // packed into an int. A key of zero, as after deserialization, means
+  // nothing is cached; dates that do not fit a key are never cached.
+  private static final int NO_KEY = 0;
+  private transient long _fixed;
+  private transient int _fixedKey;
+
+  /**
+   * Gets the fixed day number of this date.
+   * The number is computed once and reused until this date changes.
+   *
+   * @return the fixed day number.
+   */
+  @Override
+  public final long getDayNumber() {
+    if (!isDayNumberCached())
+      return cacheDayNumber(computeDayNumber());
+    return _fixed;
+  }
+
+  /**
+   * Increments this date by one day.
+   */
+  @Override
+  public void nextDay() {
+    boolean cached = isDayNumberCached();
+    super.nextDay();
+    if (cached) cacheDayNumber(_fixed + 1);
+  }
+
+  /**
+   * Subtracts this date by one day.
+   */
+  @Override
+  public void prevDay() {
+    boolean cached = isDayNumberCached();
+    super.prevDay();
+    if (cached) cacheDayNumber(_fixed - 1);
+  }
+
+  /**
+   * Discards the cached fixed day number.
+   */
+  @Override
+  protected final void invalidateDayNumber() {
+    _fixedKey = NO_KEY;
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  private boolean isDayNumberCached() {
+    return _fixedKey != NO_KEY && _fixedKey == dayNumberKey();
+  }
+
+  private long cacheDayNumber(long fixed) {
+    _fixed = fixed;
+    _fixedKey = dayNumberKey();
+    return fixed;
+  }
+
+  /**
+   * Packs this year [-32767, 32767], month [0-255] and day [0-255] into a
+   * non-zero cache key.
+   *
+   * @return the key; or NO_KEY, if this date does not fit.
+   */
+  private int dayNumberKey() {
+    if (year < -32767 || year > 32767 || (month & ~0xFF) != 0 ||
+      (day & ~0xFF) != 0)
+      return NO_KEY;
+    return ((year + 32768) << 16) | (month << 8) | day;
+  }
+}
@@ -15,14 +15,23 @@
  *****************************************************************************/
 package com.hm.cal.date;
 
+import com.hm.cal.astro.Meeus;
+import com.hm.cal.astro.Season;
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
 import com.hm.cal.util.AlmanacConverter;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
+import com.hm.cal.util.PackedDate;
 import org.joda.time.DateTime;
 
+import java.util.Arrays;
+
 import static com.hm.cal.constants.CalendarConstants.PersianCalendarConstants.monthNames;
 import static com.hm.cal.constants.CalendarConstants.PersianCalendarConstants.weekDayNames;
 import static com.hm.cal.util.AlmanacConverter.toPersianCalendar;
+import static com.hm.cal.util.PackedDate.pack;
+import static com.hm.cal.util.Util.floorDiv;
+import static com.hm.cal.util.Util.floorMod;
 
 /**
  * A Persian (Jalali) calendar date.
@@ -37,10 +46,50 @@ import static com.hm.cal.util.AlmanacConverter.toPersianCalendar;
  * @author Chris Engelsma, Hypotemoose
  * @since 2016.05.17
  */
-public class PersianCalendar extends Almanac {
+public class PersianCalendar extends MemoizedAlmanac {
 
   public static final String CALENDAR_NAME = "Persian Calendar";
-  public static final JulianDay EPOCH = new JulianDay(1948320.5);
+  private static final double _epoch = 1948320.5;
+  public static final JulianDay EPOCH = JulianDay.constant(_epoch);
+
+  // The first day of the arithmetic year 1, aligned with the astronomical
+  // calendar over the 33-year cycles of the modern era.
+  private static final long _arithmeticEpoch = 1948320L;
+
+  private CalendarType calendarType;
+
+  /**
+   * The calendar type (astronomical versus arithmetic).
+   * <p>
+   * Astronomical years begin on the day of the vernal equinox as observed
+   * in Tehran. Arithmetic years follow a fixed 33-year cycle in which years
+   * 1, 5, 9, 13, 17, 22, 26 and 30 are leap years. The arithmetic type
+   * needs no astronomy and converts in constant time.
+   * <p>
+   * The two types begin every year on the same day from 1343 to 1930,
+   * except 1474. Between 1000 and 2378, 1 Farvardin falls one day apart in:
+   * <p>
+   * 1012, 1045, 1078, 1111, 1144, 1177, 1210, 1276, 1309, 1342, 1474,
+   * 1932, 1965, 2064, 2097, 2130, 2163, 2196, 2229, 2262, 2295, 2328 and
+   * 2361.
+   * <p>
+   * In each of these years the preceding year is a leap year in one type
+   * but not the other. Before 1000 the types disagree every few years.
+   */
+  public enum CalendarType {
+    ASTRONOMICAL (0),
+    ARITHMETIC   (1);
+
+    private final int value;
+
+    private CalendarType(int value) {
+      this.value = value;
+    }
+
+    public int getValue() {
+      return value;
+    }
+  }
 
   /**
    * Constructs a new Persian Calendar using today's date.
@@ -68,7 +117,8 @@ public class PersianCalendar extends Almanac {
    * @param date an existing Persian calendar.
    */
   public PersianCalendar(PersianCalendar date) {
-    this(date.getYear(), date.getMonth(), date.getDay());
+    this(date.getYear(), date.getMonth(), date.getDay(),
+      date.getCalendarType());
   }
 
   /**
@@ -79,10 +129,25 @@ public class PersianCalendar extends Almanac {
    * @param day   a day.
    */
   public PersianCalendar(int year, int month, int day) {
+    this(year, month, day, CalendarType.ASTRONOMICAL);
+  }
+
+  /**
+   * Constructs a new Persian Calendar using input year, month, day and
+   * calendar type.
+   *
+   * @param year         a year.
+   * @param month        a month.
+   * @param day          a day.
+   * @param calendarType a calendar type.
+   */
+  public PersianCalendar(int year, int month, int day,
+                         CalendarType calendarType) {
     super();
     this.day = day;
     this.month = month;
     this.year = year;
+    this.calendarType = calendarType;
   }
 
   /**
@@ -92,11 +157,93 @@ public class PersianCalendar extends Almanac {
    * @return true, if is a leap year; false, otherwise.
    */
   public static boolean isLeapYear(int year) {
-    PersianCalendar cal = new PersianCalendar(year, 1, 1);
-    PersianCalendar calp1 = new PersianCalendar(year + 1, 1, 1);
-    JulianDay jd = AlmanacConverter.toJulianDay(cal);
-    JulianDay jdp1 = AlmanacConverter.toJulianDay(calp1);
-    return (jdp1.getValue() - jd.getValue() > 365);
+    return (newYear(year + 1) - newYear(year) > 365);
+  }
+
+  /**
+   * Determines whether a given year is a leap year.
+   *
+   * @param year         a year.
+   * @param calendarType a calendar type.
+   * @return true, if a leap year; false, otherwise.
+   */
+  public static boolean isLeapYear(int year, CalendarType calendarType) {
+    if (calendarType == CalendarType.ARITHMETIC)
+      return floorMod((25L * year) + 11, 33) < 8;
+    return isLeapYear(year);
+  }
+
+  /**
+   * Converts a date to its fixed day number.
+   * <p>
+   * The start of each year is found from the vernal equinox as observed in
+   * Tehran; the remainder of the conversion is integer-only.
+   *
+   * @param year  a year.
+   * @param month a month [1-12].
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day) {
+    return newYear(year) + (day - 1) + daysBeforeMonth(month);
+  }
+
+  /**
+   * Converts a date of a given calendar type to its fixed day number.
+   * <p>
+   * The arithmetic conversion is integer-only and allocation-free.
+   *
+   * @param year         a year.
+   * @param month        a month [1-12].
+   * @param day          a day.
+   * @param calendarType a calendar type.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day,
+                             CalendarType calendarType) {
+    if (calendarType == CalendarType.ARITHMETIC)
+      return arithmeticNewYear(year) + (day - 1) + daysBeforeMonth(month);
+    return toFixed(year, month, day);
+  }
+
+  /**
+   * Converts a fixed day number to a date.
+   *
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed) {
+    long[] table = EquinoxTable.NEW_YEARS;
+    int year;
+    long newYear;
+    if (table[0] <= fixed && fixed < table[table.length - 1]) {
+      int i = Arrays.binarySearch(table, fixed);
+      if (i < 0) i = -i - 2;
+      year = EquinoxTable.FIRST_YEAR + i;
+      newYear = table[i];
+    } else {
+      double[] adr = astronomicalYear(JulianDay.fromFixed(fixed));
+      year = (int) adr[0];
+      newYear = (long) adr[1] + 1;
+    }
+    return toDate(year, newYear, fixed);
+  }
+
+  /**
+   * Converts a fixed day number to a date of a given calendar type.
+   * <p>
+   * The arithmetic conversion is integer-only and allocation-free.
+   *
+   * @param fixed        a fixed day number.
+   * @param calendarType a calendar type.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed, CalendarType calendarType) {
+    if (calendarType != CalendarType.ARITHMETIC)
+      return fromFixed(fixed);
+    long days = fixed - _arithmeticEpoch;
+    int year = (int) floorDiv((33 * days) + 3, 12053) + 1;
+    return toDate(year, arithmeticNewYear(year), fixed);
   }
 
   /**
@@ -122,10 +269,23 @@ public class PersianCalendar extends Almanac {
    * @return the number of days in the given month/year;
    */
   public static int getNumberOfDaysInMonth(int year, int month) {
+    return getNumberOfDaysInMonth(year, month, CalendarType.ASTRONOMICAL);
+  }
+
+  /**
+   * Gets the number of days in a given month in a given year.
+   *
+   * @param year         a year.
+   * @param month        a month [1-12].
+   * @param calendarType a calendar type.
+   * @return the number of days in the given month/year;
+   */
+  public static int getNumberOfDaysInMonth(int year, int month,
+                                           CalendarType calendarType) {
     if (month <= 6) return 31;
     else {
       if (month != 12) return 30;
-      return (isLeapYear(year) ? 30 : 29);
+      return (isLeapYear(year, calendarType) ? 30 : 29);
     }
   }
 
@@ -154,7 +314,7 @@ public class PersianCalendar extends Almanac {
    * @return an array[12] containing the month names.
    */
   public String[] getMonths() {
-    return monthNames;
+    return monthNames.clone();
   }
 
   /**
@@ -163,7 +323,7 @@ public class PersianCalendar extends Almanac {
    * @return an array[7] containing the week day names;
    */
   public String[] getWeekDays() {
-    return weekDayNames;
+    return weekDayNames.clone();
   }
 
   /**
@@ -182,7 +342,26 @@ public class PersianCalendar extends Almanac {
    * @return true, if this is a leap year; false, otherwise.
    */
   public boolean isLeapYear() {
-    return PersianCalendar.isLeapYear(this.year);
+    return PersianCalendar.isLeapYear(this.year, calendarType);
+  }
+
+  /**
+   * Sets the calendar type.
+   *
+   * @param calendarType a calendar type.
+   */
+  public void setCalendarType(CalendarType calendarType) {
+    this.calendarType = calendarType;
+    invalidateDayNumber();
+  }
+
+  /**
+   * Gets the calendar type.
+   *
+   * @return the calendar type.
+   */
+  public CalendarType getCalendarType() {
+    return calendarType;
   }
 
   /**
@@ -204,6 +383,13 @@ public class PersianCalendar extends Almanac {
     return CALENDAR_NAME;
   }
 
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    if (calendarType == CalendarType.ARITHMETIC)
+      return CalendarSystems.get(CalendarId.PERSIAN_ARITHMETIC);
+    return CalendarSystems.get(CalendarId.PERSIAN);
+  }
+
   /**
    * Gets the number of days in this month.
    *
@@ -211,7 +397,8 @@ public class PersianCalendar extends Almanac {
    */
   @Override
   public int getNumberOfDaysInMonth() {
-    return PersianCalendar.getNumberOfDaysInMonth(this.year, this.month);
+    return PersianCalendar.getNumberOfDaysInMonth(this.year, this.month,
+      calendarType);
   }
 
   /**
@@ -250,10 +437,10 @@ public class PersianCalendar extends Almanac {
    */
   @Override
   public void set(Almanac a) {
-    PersianCalendar cal = toPersianCalendar(a);
-    this.year = cal.getYear();
-    this.month = cal.getMonth();
-    this.day = cal.getDay();
+    long date = fromFixed(AlmanacConverter.toFixed(a), calendarType);
+    this.year = PackedDate.getYear(date);
+    this.month = PackedDate.getMonth(date);
+    this.day = PackedDate.getDay(date);
   }
 
   @Override
@@ -269,20 +456,143 @@ public class PersianCalendar extends Almanac {
       return true;
 
     final PersianCalendar date = (PersianCalendar) obj;
-    return new EqualsBuilder()
-      .append(this.day, date.getDay())
-      .append(this.month, date.getMonth())
-      .append(this.year, date.getYear())
-      .isEquals();
+    return hasSameDate(date) && this.calendarType == date.calendarType;
   }
 
   @Override
   public int hashCode() {
-    return new HashCodeBuilder()
-      .append(this.day)
-      .append(this.month)
-      .append(this.year)
-      .toHashCode();
+    return 31 * hashDate() + this.calendarType.ordinal();
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  /**
+   * Gets the number of days in a year preceding a given month.
+   *
+   * @param month a month [1-12].
+   * @return the number of days preceding the month.
+   */
+  private static int daysBeforeMonth(int month) {
+    return (month <= 7) ? ((month - 1) * 31) : (((month - 1) * 30) + 6);
+  }
+
+  /**
+   * Unpacks a day of a year into its month and day.
+   *
+   * @param year    a year.
+   * @param newYear the fixed day number of the first day of the year.
+   * @param fixed   a fixed day number within the year.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  private static long toDate(int year, long newYear, long fixed) {
+    int yearDay = (int) (fixed - newYear) + 1;
+    int month = (yearDay <= 186) ? (yearDay + 30) / 31 : (yearDay + 23) / 30;
+    int day = (int) (fixed - newYear - daysBeforeMonth(month)) + 1;
+    return pack(year, month, day);
+  }
+
+  /**
+   * Gets the fixed day number of the first day of a given arithmetic year.
+   * Each 33-year cycle holds 8 leap years.
+   *
+   * @param year a year.
+   * @return the fixed day number of 1 Farvardin.
+   */
+  private static long arithmeticNewYear(int year) {
+    return _arithmeticEpoch + (365L * (year - 1))
+      + floorDiv((8L * year) + 21, 33);
+  }
+
+  /**
+   * Gets the fixed day number of the first day of a given year.
+   *
+   * @param year a year.
+   * @return the fixed day number of 1 Farvardin.
+   */
+  private static long newYear(int year) {
+    int i = year - EquinoxTable.FIRST_YEAR;
+    if (i >= 0 && i < EquinoxTable.NEW_YEARS.length)
+      return EquinoxTable.NEW_YEARS[i];
+    return computeNewYear(year);
+  }
+
+  /**
+   * Computes the fixed day number of the first day of a given year from
+   * the vernal equinox.
+   *
+   * @param year a year.
+   * @return the fixed day number of 1 Farvardin.
+   */
+  private static long computeNewYear(int year) {
+    double guess = (_epoch - 1) + (Meeus.TROPICAL_YEAR * ((year - 1) - 1));
+    double[] adr = new double[]{year - 1, 0};
+    while (adr[0] < year) {
+      adr = astronomicalYear(guess);
+      guess = adr[1] + Meeus.TROPICAL_YEAR + 2;
+    }
+    return (long) adr[1] + 1;
+  }
+
+  /**
+   * Finds the astronomical year containing a given Julian Day.
+   *
+   * @param jday a Julian Day.
+   * @return an array[2] containing the year and the day of its equinox.
+   */
+  private static double[] astronomicalYear(double jday) {
+    long date = GregorianCalendar.fromFixed(JulianDay.toFixed(jday));
+    int guess = PackedDate.getYear(date) - 2;
+    double lastEquinox = tehranEquinox(guess);
+    while (lastEquinox > jday) {
+      guess--;
+      lastEquinox = tehranEquinox(guess);
+    }
+    double nextEquinox = lastEquinox - 1;
+    while (!((lastEquinox <= jday) && (jday < nextEquinox))) {
+      lastEquinox = nextEquinox;
+      guess++;
+      nextEquinox = tehranEquinox(guess);
+    }
+    double adr = (lastEquinox - _epoch);
+    adr /= Meeus.TROPICAL_YEAR;
+    adr += 1;
+    return new double[]{Math.round(adr), lastEquinox};
+  }
+
+  /**
+   * Computes the vernal equinox as observed in Tehran.
+   *
+   * @param year a Gregorian year.
+   * @return the Julian Day of the equinox, floored to a whole day.
+   */
+  private static double tehranEquinox(int year) {
+    double eqJED = Meeus.equinox(year, Season.SPRING);
+    double eqJD = eqJED - Meeus.deltat(year) / (24.0 * 60.0 * 60.0);
+    double eqApp = eqJD + Meeus.equationOfTime(eqJED);
+    double dtTehran = (52.0 + (30.0 / 60.0)) / 360.0;
+    double eqTehran = eqApp + dtTehran;
+    eqTehran = Math.floor(eqTehran);
+    return eqTehran;
+  }
+
+  /**
+   * The first day of each year of the supported range, from the Tehran
+   * vernal equinox. The table is built on first use; the class loader
+   * guarantees it is built once and published safely to every thread.
+   */
+  private static final class EquinoxTable {
+
+    // Years 1 through 2378 (622 - 3000 AD); the last entry is the first
+    // day of the year following the range.
+    static final int FIRST_YEAR = 1;
+    static final int LAST_YEAR = 2378;
+    static final long[] NEW_YEARS = new long[LAST_YEAR - FIRST_YEAR + 2];
+
+    static {
+      for (int i = 0; i < NEW_YEARS.length; ++i)
+        NEW_YEARS[i] = computeNewYear(FIRST_YEAR + i);
+    }
   }
 
 }
@@ -0,0 +1,584 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import java.util.Arrays;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.system.CalendarSystem;
+import com.hm.cal.system.CalendarSystems;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.constants.CalendarConstants.GregorianCalendarConstants.monthNames;
+import static com.hm.cal.constants.CalendarConstants.GregorianCalendarConstants.weekDayNames;
+import static com.hm.cal.constants.CalendarConstants.SovietCalendarConstants.fiveDayWeekNames;
+import static com.hm.cal.constants.CalendarConstants.SovietCalendarConstants.holidayNames;
+import static com.hm.cal.constants.CalendarConstants.SovietCalendarConstants.sixDayWeekExtraDayName;
+import static com.hm.cal.constants.CalendarConstants.SovietCalendarConstants.sixDayWeekNames;
+import static com.hm.cal.util.PackedDate.pack;
+import static com.hm.cal.util.Util.floorMod;
+
+/**
+ * A Soviet Calendar.
+ * <p>
+ * From 1 October 1929 the Soviet Union replaced the 7-day week with the
+ * continuous week (nepreryvka): every day was given one of five colors, and
+ * each worker rested on the day of their color. From 1 December 1931 the
+ * 5-day week gave way to a 6-day week, with common rest days on the 6th,
+ * 12th, 18th, 24th and 30th of every month. The 7-day week returned on
+ * 27 June 1940.
+ * <p>
+ * The civil calendar kept the Gregorian months. A revolutionary calendar
+ * printed for 1930 instead had twelve months of 30 days and five holidays
+ * that belonged to no month: Lenin Day after 30 January, two Days of Labour
+ * after 30 April and two Days of Industry after 7 November. A Leap Day after
+ * 30 February completes leap years. These holidays are numbered [1-6] and
+ * held in month 0.
+ * <p>
+ * Week days are computed from the fixed day number, so they never depend on
+ * a 7-day cycle.
+ *
+ * @since 2026.10.16
+ */
+public class SovietCalendar extends Almanac {
+
+  public static final String CALENDAR_NAME = "Soviet Calendar";
+  private static final long _fiveDayWeekStart =
+    GregorianCalendar.toFixed(1929, 10, 1);
+  private static final long _sixDayWeekStart =
+    GregorianCalendar.toFixed(1931, 12, 1);
+  private static final long _sevenDayWeekStart =
+    GregorianCalendar.toFixed(1940, 6, 27);
+
+  // The month and day after which each holiday falls.
+  private static final int[] _holidayMonths = { 1, 2, 4, 4, 11, 11 };
+  private static final int[] _holidayDays = { 30, 30, 30, 30, 7, 7 };
+  private static final int _leapDay = 1;
+
+  private CalendarType calendarType;
+
+  /**
+   * The calendar type.
+   */
+  public enum CalendarType {
+    CIVIL        (0),
+    REVOLUTIONARY(1);
+
+    private final int value;
+
+    private CalendarType(int value) {
+      this.value = value;
+    }
+
+    public int getValue() {
+      return value;
+    }
+  }
+
+  /**
+   * Constructs a Soviet date set to today.
+   */
+  public SovietCalendar() {
+    this(new JulianDay());
+  }
+
+  /**
+   * Constructs a Soviet date from an Almanac.
+   *
+   * @param a an Almanac.
+   */
+  public SovietCalendar(Almanac a) {
+    this(AlmanacConverter.toSovietCalendar(a));
+  }
+
+  /**
+   * Constructs a Soviet date from another Soviet date.
+   *
+   * @param date a Soviet date.
+   */
+  public SovietCalendar(SovietCalendar date) {
+    this(date.getYear(), date.getMonth(), date.getDay(),
+      date.getCalendarType());
+  }
+
+  /**
+   * Constructs a Soviet date in the civil calendar.
+   *
+   * @param year  a year.
+   * @param month a month [1-12].
+   * @param day   a day.
+   */
+  public SovietCalendar(int year, int month, int day) {
+    this(year, month, day, CalendarType.CIVIL);
+  }
+
+  /**
+   * Constructs a Soviet date of a given calendar type.
+   *
+   * @param year         a year.
+   * @param month        a month [1-12]; or 0, for a revolutionary holiday.
+   * @param day          a day; or a holiday [1-6].
+   * @param calendarType a calendar type.
+   */
+  public SovietCalendar(int year, int month, int day,
+                        CalendarType calendarType) {
+    super();
+    this.year = year;
+    this.month = month;
+    this.day = day;
+    this.calendarType = calendarType;
+  }
+
+  /**
+   * Returns today's date as a string.
+   * Convenience static method.
+   *
+   * @return today's date.
+   */
+  public static String asToday() {
+    return (new SovietCalendar()).toString();
+  }
+
+  /**
+   * Determines whether a given year is a leap year.
+   *
+   * @param year a year.
+   * @return true, if a leap year; false, otherwise.
+   */
+  public static boolean isLeapYear(int year) {
+    return GregorianCalendar.isLeapYear(year, false);
+  }
+
+  /**
+   * Gets the number of days in a month.
+   *
+   * @param year         a year.
+   * @param month        a month [1-12]; or 0, for the revolutionary
+   *                     holidays.
+   * @param calendarType a calendar type.
+   * @return the number of days in the month; or the number of holidays.
+   */
+  public static int getNumberOfDaysInMonth(int year, int month,
+                                           CalendarType calendarType) {
+    if (calendarType == CalendarType.CIVIL)
+      return GregorianCalendar.getNumberOfDaysInMonth(year, month, false);
+    if (month == 0)
+      return isLeapYear(year) ? 6 : 5;
+    return 30;
+  }
+
+  /**
+   * Gets the name of a revolutionary holiday.
+   *
+   * @param holiday a holiday [1-6].
+   * @return the name of the holiday.
+   * @throws IndexOutOfBoundsException
+   */
+  public static String getHolidayName(int holiday)
+    throws IndexOutOfBoundsException {
+    return holidayNames[holiday - 1];
+  }
+
+  /**
+   * Converts a civil date to its fixed day number.
+   *
+   * @param year  a year.
+   * @param month a month [1-12].
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  public static long toFixed(int year, int month, int day) {
+    return GregorianCalendar.toFixed(year, month, day);
+  }
+
+  /**
+   * Converts a date of a given calendar type to its fixed day number.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param year         a year.
+   * @param month        a month [1-12]; or 0, for a revolutionary holiday.
+   * @param day          a day; or a holiday [1-6].
+   * @param calendarType a calendar type.
+   * @return the fixed day number.
+   * @throws IllegalArgumentException if the holiday does not exist.
+   */
+  public static long toFixed(int year, int month, int day,
+                             CalendarType calendarType) {
+    if (calendarType == CalendarType.CIVIL)
+      return GregorianCalendar.toFixed(year, month, day);
+    return GregorianCalendar.toFixed(year, 1, 1) +
+      dayOfYear(year, month, day) - 1;
+  }
+
+  /**
+   * Converts a fixed day number to a civil date.
+   *
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed) {
+    return GregorianCalendar.fromFixed(fixed);
+  }
+
+  /**
+   * Converts a fixed day number to a date of a given calendar type.
+   * <p>
+   * This conversion is integer-only and allocation-free.
+   *
+   * @param fixed        a fixed day number.
+   * @param calendarType a calendar type.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  public static long fromFixed(long fixed, CalendarType calendarType) {
+    long date = GregorianCalendar.fromFixed(fixed);
+    if (calendarType == CalendarType.CIVIL)
+      return date;
+
+    int year = PackedDate.getYear(date);
+    boolean leap = isLeapYear(year);
+    int n = (int) (fixed - GregorianCalendar.toFixed(year, 1, 1)) + 1;
+    int skipped = 0;
+    for (int i = 0; i < _holidayMonths.length; ++i) {
+      if (i == _leapDay && !leap) continue;
+      int holiday = 30 * (_holidayMonths[i] - 1) + _holidayDays[i] +
+        skipped + 1;
+      if (n == holiday) return pack(year, 0, i + 1);
+      if (n < holiday) break;
+      skipped++;
+    }
+    n -= skipped + 1;
+    return pack(year, (n / 30) + 1, (n % 30) + 1);
+  }
+
+  /**
+   * Gets the number of days in the week in use on a given day.
+   *
+   * @param fixed a fixed day number.
+   * @return 5, 6 or 7.
+   */
+  public static int getNumberOfDaysInWeek(long fixed) {
+    if (fixed < _fiveDayWeekStart || fixed >= _sevenDayWeekStart)
+      return 7;
+    return (fixed < _sixDayWeekStart) ? 5 : 6;
+  }
+
+  /**
+   * Gets the week day number of a given day.
+   * <p>
+   * In the 5-day week, this is the color of the day [0-4], starting with
+   * yellow on 1 October 1929. In the 6-day week, this is the position of
+   * the day [0-5] in its month, where 5 is the rest day; the 31st of a month
+   * stood outside the week and is numbered 6. In the 7-day week, this is
+   * the week day [0-6] starting at Sunday.
+   *
+   * @param fixed a fixed day number.
+   * @return the week day number.
+   */
+  public static int getWeekDayNumber(long fixed) {
+    switch (getNumberOfDaysInWeek(fixed)) {
+      case 5:
+        return (int) floorMod(fixed - _fiveDayWeekStart, 5);
+      case 6:
+        int day = PackedDate.getDay(GregorianCalendar.fromFixed(fixed));
+        return (day == 31) ? 6 : (day - 1) % 6;
+      default:
+        return (int) floorMod(fixed + 1, 7);
+    }
+  }
+
+  /**
+   * Gets the name of the week day of a given day.
+   *
+   * @param fixed a fixed day number.
+   * @return the name of the week day.
+   */
+  public static String getWeekDayName(long fixed) {
+    int number = getWeekDayNumber(fixed);
+    switch (getNumberOfDaysInWeek(fixed)) {
+      case 5:
+        return fiveDayWeekNames[number];
+      case 6:
+        return (number == 6) ? sixDayWeekExtraDayName : sixDayWeekNames[number];
+      default:
+        return weekDayNames[number];
+    }
+  }
+
+  /**
+   * Gets the calendar type.
+   *
+   * @return the calendar type.
+   */
+  public CalendarType getCalendarType() {
+    return calendarType;
+  }
+
+  /**
+   * Converts this date to another calendar type, keeping the day. Unlike
+   * the calendar type setters of the other calendars, the year, month and
+   * day change to those of the same day in the new calendar type.
+   *
+   * @param calendarType a calendar type.
+   */
+  public void convertTo(CalendarType calendarType) {
+    long fixed = getFixed();
+    this.calendarType = calendarType;
+    setFixed(fixed);
+  }
+
+  /**
+   * Determines whether this date is a revolutionary holiday.
+   *
+   * @return true, if a holiday; false, otherwise.
+   */
+  public boolean isHoliday() {
+    return calendarType == CalendarType.REVOLUTIONARY && month == 0;
+  }
+
+  /**
+   * Gets the fixed day number of this date.
+   *
+   * @return the fixed day number.
+   */
+  public long getFixed() {
+    return toFixed(this.year, this.month, this.day, calendarType);
+  }
+
+  /**
+   * Gets this month's name; or this holiday's name.
+   *
+   * @return the name of this month or holiday.
+   */
+  public String getMonthName() {
+    if (isHoliday()) return getHolidayName(this.day);
+    return GregorianCalendar.getMonthName(this.month);
+  }
+
+  /**
+   * Determines whether this date's year is a leap year.
+   *
+   * @return true, if this is a leap year; false, otherwise.
+   */
+  public boolean isLeapYear() {
+    return isLeapYear(this.year);
+  }
+
+  /**
+   * Sets this date to the next day.
+   */
+  @Override
+  public void nextDay() {
+    setFixed(getFixed() + 1);
+  }
+
+  /**
+   * Sets this date to the previous day.
+   */
+  @Override
+  public void prevDay() {
+    setFixed(getFixed() - 1);
+  }
+
+  /**
+   * Gets the date.
+   *
+   * @return the date.
+   */
+  @Override
+  public String getDate() {
+    if (isHoliday())
+      return new String(getMonthName() + ", " + getYear());
+    return new String(getMonthName() + " " +
+      getDay() + ", " +
+      getYear());
+  }
+
+  /**
+   * Gets the name of this calendar.
+   *
+   * @return the name of this calendar.
+   */
+  @Override
+  public String getName() {
+    return CALENDAR_NAME;
+  }
+
+  @Override
+  public CalendarSystem getCalendarSystem() {
+    if (calendarType == CalendarType.REVOLUTIONARY)
+      return CalendarSystems.get(CalendarId.SOVIET_REVOLUTIONARY);
+    return CalendarSystems.get(CalendarId.SOVIET);
+  }
+
+  /**
+   * Gets the month names.
+   *
+   * @return an array[12] containing the month names.
+   */
+  @Override
+  public String[] getMonths() {
+    return monthNames.clone();
+  }
+
+  /**
+   * Gets the names of the days of the week in use on this date. In the
+   * six-day week the 31st of a month falls outside the week, so its name
+   * follows the six week days, at the index returned by
+   * {@link #getWeekDayNumber(long)}.
+   *
+   * @return an array containing the week day names.
+   */
+  @Override
+  public String[] getWeekDays() {
+    switch (getNumberOfDaysInWeek()) {
+      case 5:  return fiveDayWeekNames.clone();
+      case 6:
+        String[] names = Arrays.copyOf(sixDayWeekNames, 7);
+        names[6] = sixDayWeekExtraDayName;
+        return names;
+      default: return weekDayNames.clone();
+    }
+  }
+
+  /**
+   * Gets the name for this week day.
+   *
+   * @return the name for this week day.
+   */
+  @Override
+  public String getWeekDay() {
+    return getWeekDayName(getFixed());
+  }
+
+  /**
+   * Gets the week day number of this date.
+   *
+   * @return the week day number.
+   * @see #getWeekDayNumber(long)
+   */
+  @Override
+  public int getWeekDayNumber() {
+    return getWeekDayNumber(getFixed());
+  }
+
+  /**
+   * Gets the number of days in this month.
+   *
+   * @return the number of days in this month.
+   */
+  @Override
+  public int getNumberOfDaysInMonth() {
+    return getNumberOfDaysInMonth(this.year, this.month, calendarType);
+  }
+
+  /**
+   * Gets the number of days in the week in use on this date.
+   *
+   * @return 5, 6 or 7.
+   */
+  @Override
+  public int getNumberOfDaysInWeek() {
+    return getNumberOfDaysInWeek(getFixed());
+  }
+
+  /**
+   * Gets the number of months in a year.
+   *
+   * @return the number of months in a year.
+   */
+  @Override
+  public int getNumberOfMonthsInYear() {
+    return 12;
+  }
+
+  /**
+   * Sets this calendar using another Almanac.
+   *
+   * @param a an Almanac.
+   */
+  @Override
+  public void set(Almanac a) {
+    setFixed(AlmanacConverter.toFixed(a));
+  }
+
+  @Override
+  public String toString() {
+    return new String(getName() + ": " + getDate());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof SovietCalendar))
+      return false;
+    if (obj == this)
+      return true;
+
+    final SovietCalendar date = (SovietCalendar) obj;
+    return hasSameDate(date) && this.calendarType == date.calendarType;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * hashDate() + this.calendarType.ordinal();
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  /**
+   * Sets this date to a fixed day number.
+   *
+   * @param fixed a fixed day number.
+   */
+  private void setFixed(long fixed) {
+    long date = fromFixed(fixed, calendarType);
+    this.year = PackedDate.getYear(date);
+    this.month = PackedDate.getMonth(date);
+    this.day = PackedDate.getDay(date);
+  }
+
+  /**
+   * Gets the day of the year [1-366] of a revolutionary date.
+   *
+   * @param year  a year.
+   * @param month a month [1-12]; or 0, for a holiday.
+   * @param day   a day; or a holiday [1-6].
+   * @return the day of the year.
+   */
+  private static int dayOfYear(int year, int month, int day) {
+    boolean leap = isLeapYear(year);
+    if (month == 0) {
+      int h = day - 1;
+      if (h < 0 || h >= _holidayMonths.length || (h == _leapDay && !leap))
+        throw new IllegalArgumentException("No such holiday in " + year +
+          ": " + day);
+      int n = 30 * (_holidayMonths[h] - 1) + _holidayDays[h] + 1;
+      for (int i = 0; i < h; ++i)
+        if (i != _leapDay || leap) n++;
+      return n;
+    }
+
+    int n = 30 * (month - 1) + day;
+    for (int i = 0; i < _holidayMonths.length; ++i) {
+      if (i == _leapDay && !leap) continue;
+      if (_holidayMonths[i] < month ||
+        (_holidayMonths[i] == month && _holidayDays[i] < day)) n++;
+    }
+    return n;
+  }
+}
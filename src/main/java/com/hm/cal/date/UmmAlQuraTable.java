@@ -0,0 +1,166 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.hm.cal.util.PackedDate.pack;
+
+/**
+ * The Umm al-Qura calendar of Saudi Arabia.
+ * <p>
+ * Umm al-Qura months begin on observed or predicted new moons, so their
+ * lengths follow no rule. Each year is stored as a 12-bit mask of its
+ * 30-day months, loaded from a bundled resource the first time the table
+ * is used, next to the day number on which the year begins. Day numbers
+ * are found by a binary search over the year starts plus a bit count over
+ * the year's mask.
+ *
+ * @since 2026.10.16
+ */
+final class UmmAlQuraTable {
+
+  /**
+   * The first year of the table.
+   */
+  static final int FIRST_YEAR;
+
+  /**
+   * The last year of the table.
+   */
+  static final int LAST_YEAR;
+
+  /**
+   * Converts a date to its fixed day number.
+   *
+   * @param year  a year.
+   * @param month a month [1-12].
+   * @param day   a day.
+   * @return the fixed day number.
+   * @throws IllegalArgumentException if the year is outside the table.
+   */
+  static long toFixed(int year, int month, int day) {
+    int i = index(year);
+    return _yearStarts[i] + monthStart(_monthBits[i], month) + (day - 1);
+  }
+
+  /**
+   * Converts a fixed day number to a date.
+   *
+   * @param fixed a fixed day number.
+   * @return the date, packed as a {@link com.hm.cal.util.PackedDate}.
+   * @throws IllegalArgumentException if the day is outside the table.
+   */
+  static long fromFixed(long fixed) {
+    if (fixed < _yearStarts[0] || fixed >= _yearStarts[_monthBits.length])
+      throw new IllegalArgumentException(
+        "Day is outside the Umm al-Qura table: " + fixed);
+
+    int i = Arrays.binarySearch(_yearStarts, fixed);
+    if (i < 0) i = -i - 2;
+    int bits = _monthBits[i];
+    int yearDay = (int) (fixed - _yearStarts[i]);
+
+    // No month starts later than 30 days per preceding month.
+    int month = (yearDay / 30) + 1;
+    while (month < 12 && monthStart(bits, month + 1) <= yearDay)
+      month++;
+    return pack(FIRST_YEAR + i, month, yearDay - monthStart(bits, month) + 1);
+  }
+
+  /**
+   * Gets the number of days in a given month.
+   *
+   * @param year  a year.
+   * @param month a month [1-12].
+   * @return the number of days in the month.
+   * @throws IllegalArgumentException if the year is outside the table.
+   */
+  static int getNumberOfDaysInMonth(int year, int month) {
+    return 29 + ((_monthBits[index(year)] >> (month - 1)) & 1);
+  }
+
+  /**
+   * Gets the number of days in a given year.
+   *
+   * @param year a year.
+   * @return the number of days in the year.
+   * @throws IllegalArgumentException if the year is outside the table.
+   */
+  static int getNumberOfDaysInYear(int year) {
+    return (12 * 29) + Integer.bitCount(_monthBits[index(year)]);
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  private static final String RESOURCE = "umm-al-qura.txt";
+
+  private static final long[] _yearStarts;
+  private static final short[] _monthBits;
+
+  static {
+    List<String> years = new ArrayList<String>();
+    String first = null;
+    try (InputStream in = UmmAlQuraTable.class.getResourceAsStream(RESOURCE)) {
+      if (in == null)
+        throw new IllegalStateException("Missing resource " + RESOURCE);
+      BufferedReader reader =
+        new BufferedReader(new InputStreamReader(in, "US-ASCII"));
+      String line;
+      while ((line = reader.readLine()) != null) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#")) continue;
+        if (first == null) first = line;
+        else years.add(line);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to read " + RESOURCE, e);
+    }
+
+    String[] header = first.split("\\s+");
+    FIRST_YEAR = Integer.parseInt(header[0]);
+    LAST_YEAR = FIRST_YEAR + years.size() - 1;
+    _monthBits = new short[years.size()];
+    _yearStarts = new long[years.size() + 1];
+    _yearStarts[0] = Long.parseLong(header[1]);
+    for (int i = 0; i < _monthBits.length; ++i) {
+      _monthBits[i] = (short) Integer.parseInt(years.get(i), 16);
+      _yearStarts[i + 1] =
+        _yearStarts[i] + (12 * 29) + Integer.bitCount(_monthBits[i]);
+    }
+  }
+
+  private UmmAlQuraTable() {
+  }
+
+  private static int index(int year) {
+    if (year < FIRST_YEAR || year > LAST_YEAR)
+      throw new IllegalArgumentException(
+        "Year is outside the Umm al-Qura table: " + year);
+    return year - FIRST_YEAR;
+  }
+
+  private static int monthStart(int bits, int month) {
+    return (29 * (month - 1)) + Integer.bitCount(bits & ((1 << (month - 1)) - 1));
+  }
+}
@@ -0,0 +1,104 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.system;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.date.Almanac;
+
+/**
+ * A calendar system.
+ * <p>
+ * A calendar system holds the primitive operations of one calendar: the
+ * conversion to and from a fixed day number and the lengths of its months
+ * and years. Dates are exchanged as a year, month and day packed into a
+ * single long (see {@link com.hm.cal.util.PackedDate}), so none of these
+ * operations need to allocate.
+ * <p>
+ * Calendar systems are stateless and are registered once in
+ * {@link CalendarSystems}, indexed by their {@link CalendarId}.
+ *
+ * @since 2026.10.16
+ */
+public interface CalendarSystem {
+
+  /**
+   * Gets the identifier of this calendar system.
+   *
+   * @return the identifier.
+   */
+  CalendarId getId();
+
+  /**
+   * Converts a date to its fixed day number.
+   *
+   * @param year  a year.
+   * @param month a month.
+   * @param day   a day.
+   * @return the fixed day number.
+   */
+  long toFixed(int year, int month, int day);
+
+  /**
+   * Converts a fixed day number to a date.
+   *
+   * @param fixed a fixed day number.
+   * @return the packed date.
+   */
+  long fromFixed(long fixed);
+
+  /**
+   * Converts a date of this calendar system to its fixed day number.
+   *
+   * @param a a date of this calendar system.
+   * @return the fixed day number.
+   */
+  long toFixed(Almanac a);
+
+  /**
+   * Constructs a date of this calendar system from a fixed day number.
+   *
+   * @param fixed a fixed day number.
+   * @return a new date.
+   */
+  Almanac toAlmanac(long fixed);
+
+  /**
+   * Constructs a date of this calendar system.
+   *
+   * @param year  a year.
+   * @param month a month.
+   * @param day   a day.
+   * @return a new date.
+   */
+  Almanac toAlmanac(int year, int month, int day);
+
+  /**
+   * Gets the number of months in a given year.
+   *
+   * @param year a year.
+   * @return the number of months in the year.
+   */
+  int getNumberOfMonthsInYear(int year);
+
+  /**
+   * Gets the number of days in a given month and year.
+   *
+   * @param year  a year.
+   * @param month a month.
+   * @return the number of days in the month.
+   */
+  int getNumberOfDaysInMonth(int year, int month);
+}
@@ -0,0 +1,108 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.system;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.date.EraCalendar;
+
+/**
+ * The registry of calendar systems.
+ * <p>
+ * Calendar systems are held in an array indexed by the value of their
+ * {@link CalendarId}, so a lookup is a single array load.
+ *
+ * @since 2026.10.16
+ */
+public final class CalendarSystems {
+
+  private static final CalendarSystem[] _systems =
+    new CalendarSystem[CalendarId.values().length];
+  private static final DirectConverter[][] _direct =
+    new DirectConverter[_systems.length][_systems.length];
+
+  static {
+    register(new GregorianSystem());
+    register(new JulianSystem());
+    register(new FrenchRepublicanSystem());
+    register(new MayaSystem());
+    register(new IslamicSystem());
+    register(new HebrewSystem());
+    register(new PersianSystem());
+    register(new PersianArithmeticSystem());
+    register(new IslamicUmmAlQuraSystem());
+    register(new FrenchRepublicanArithmeticSystem());
+    register(new IndianCivilSystem());
+    register(new CopticSystem());
+    register(new EthiopianSystem());
+    register(new EthiopianAmeteAlemSystem());
+    register(new ChineseSystem());
+    for (EraCalendar.CalendarType type : EraCalendar.CalendarType.values())
+      register(new EraOffsetSystem(type));
+    register(new SovietSystem());
+    register(new SovietRevolutionarySystem());
+    register(new BahaiSystem());
+
+    register(GregorianJulianShift.GREGORIAN_TO_JULIAN);
+    register(GregorianJulianShift.JULIAN_TO_GREGORIAN);
+  }
+
+  /**
+   * Gets a registered calendar system.
+   *
+   * @param id a calendar identifier.
+   * @return the calendar system.
+   */
+  public static CalendarSystem get(CalendarId id) {
+    return _systems[id.getValue()];
+  }
+
+  /**
+   * Registers a calendar system.
+   * Any system previously registered under the same identifier is replaced.
+   *
+   * @param system a calendar system.
+   */
+  public static synchronized void register(CalendarSystem system) {
+    _systems[system.getId().getValue()] = system;
+  }
+
+  /**
+   * Gets a registered direct converter between two calendar systems.
+   *
+   * @param source the source calendar identifier.
+   * @param target the target calendar identifier.
+   * @return the direct converter; null, if none is registered.
+   */
+  public static DirectConverter getDirect(CalendarId source,
+                                          CalendarId target) {
+    return _direct[source.getValue()][target.getValue()];
+  }
+
+  /**
+   * Registers a direct converter.
+   * Any converter previously registered for the same pair of calendar
+   * systems is replaced.
+   *
+   * @param converter a direct converter.
+   */
+  public static synchronized void register(DirectConverter converter) {
+    _direct[converter.getSource().getValue()]
+      [converter.getTarget().getValue()] = converter;
+  }
+
+  private CalendarSystems() {
+  }
+}
@@ -0,0 +1,56 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.system;
+
+import com.hm.cal.constants.CalendarId;
+
+/**
+ * A direct converter between two calendar systems.
+ * <p>
+ * Most conversions pass through the fixed day number. Where two calendars
+ * are closely related, a direct converter can map a date of one onto the
+ * other without that round trip. Direct converters are registered in
+ * {@link CalendarSystems} and are preferred over the fixed day number
+ * whenever one exists for a pair of calendars.
+ *
+ * @since 2026.10.16
+ */
+public interface DirectConverter {
+
+  /**
+   * Gets the identifier of the source calendar system.
+   *
+   * @return the source identifier.
+   */
+  CalendarId getSource();
+
+  /**
+   * Gets the identifier of the target calendar system.
+   *
+   * @return the target identifier.
+   */
+  CalendarId getTarget();
+
+  /**
+   * Converts a date of the source calendar to the target calendar.
+   *
+   * @param year  a year.
+   * @param month a month.
+   * @param day   a day.
+   * @return the target date, packed as a {@link com.hm.cal.util.PackedDate}.
+   */
+  long convert(int year, int month, int day);
+}
@@ -0,0 +1,99 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.system;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.date.Almanac;
+import com.hm.cal.date.EraCalendar;
+import com.hm.cal.date.EraCalendar.CalendarType;
+import com.hm.cal.date.GregorianCalendar;
+import com.hm.cal.util.PackedDate;
+
+/**
+ * The calendar system of an {@link EraCalendar} type.
+ * <p>
+ * One instance is registered per calendar type. Calendars that count years
+ * from an epoch pack their own years. The Japanese calendar packs the
+ * Gregorian year, since a year of an era alone does not name a day.
+ *
+ * @since 2026.10.16
+ */
+final class EraOffsetSystem implements CalendarSystem {
+
+  private final CalendarType _type;
+  private final int _offset;
+
+  EraOffsetSystem(CalendarType type) {
+    _type = type;
+    _offset = (type == CalendarType.JAPANESE) ?
+      0 : EraCalendar.getYearOffset(type);
+  }
+
+  @Override
+  public CalendarId getId() {
+    return EraCalendar.getCalendarId(_type);
+  }
+
+  @Override
+  public long toFixed(int year, int month, int day) {
+    return GregorianCalendar.toFixed(year - _offset, month, day);
+  }
+
+  @Override
+  public long fromFixed(long fixed) {
+    long date = GregorianCalendar.fromFixed(fixed);
+    return PackedDate.pack(PackedDate.getYear(date) + _offset,
+      PackedDate.getMonth(date),
+      PackedDate.getDay(date));
+  }
+
+  @Override
+  public long toFixed(Almanac a) {
+    return ((EraCalendar) a).getFixed();
+  }
+
+  @Override
+  public Almanac toAlmanac(long fixed) {
+    if (_type == CalendarType.JAPANESE) {
+      long date = EraCalendar.fromFixed(fixed, _type);
+      return new EraCalendar(EraCalendar.getJapaneseEra(fixed),
+        PackedDate.getYear(date),
+        PackedDate.getMonth(date),
+        PackedDate.getDay(date));
+    }
+    long date = fromFixed(fixed);
+    return new EraCalendar(PackedDate.getYear(date),
+      PackedDate.getMonth(date),
+      PackedDate.getDay(date), _type);
+  }
+
+  @Override
+  public Almanac toAlmanac(int year, int month, int day) {
+    if (_type == CalendarType.JAPANESE)
+      return toAlmanac(toFixed(year, month, day));
+    return new EraCalendar(year, month, day, _type);
+  }
+
+  @Override
+  public int getNumberOfMonthsInYear(int year) {
+    return 12;
+  }
+
+  @Override
+  public int getNumberOfDaysInMonth(int year, int month) {
+    return GregorianCalendar.getNumberOfDaysInMonth(year - _offset, month, false);
+  }
+}
@@ -0,0 +1,134 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.system;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.date.GregorianCalendar;
+import com.hm.cal.date.JulianCalendar;
+
+import static com.hm.cal.util.PackedDate.pack;
+import static com.hm.cal.util.Util.floorDiv;
+
+/**
+ * A direct shift between the Gregorian and Julian calendars.
+ * <p>
+ * Both calendars share their months and only disagree on century leap
+ * years, so a date of one becomes a date of the other by shifting it a
+ * whole number of days. The shift is fixed from March 1 of one century
+ * year to the end of February of the next, and is read from a table of
+ * century offsets computed once.
+ *
+ * @since 2026.10.16
+ */
+final class GregorianJulianShift implements DirectConverter {
+
+  /**
+   * Shifts Gregorian dates to Julian dates.
+   */
+  static final GregorianJulianShift GREGORIAN_TO_JULIAN =
+    new GregorianJulianShift(true);
+
+  /**
+   * Shifts Julian dates to Gregorian dates.
+   */
+  static final GregorianJulianShift JULIAN_TO_GREGORIAN =
+    new GregorianJulianShift(false);
+
+  @Override
+  public CalendarId getSource() {
+    return (_toJulian) ? CalendarId.GREGORIAN : CalendarId.JULIAN;
+  }
+
+  @Override
+  public CalendarId getTarget() {
+    return (_toJulian) ? CalendarId.JULIAN : CalendarId.GREGORIAN;
+  }
+
+  @Override
+  public long convert(int year, int month, int day) {
+    // Julian years have no year "0"; shift on astronomical years.
+    if (!_toJulian && year < 1) year++;
+
+    // The offset belongs to the year beginning in March.
+    int shift = offset((month < 3) ? year - 1 : year);
+    if (_toJulian) shift = -shift;
+
+    day += shift;
+    while (day < 1) {
+      if (--month < 1) {
+        month = 12;
+        year--;
+      }
+      day += daysInMonth(year, month);
+    }
+    int length;
+    while (day > (length = daysInMonth(year, month))) {
+      day -= length;
+      if (++month > 12) {
+        month = 1;
+        year++;
+      }
+    }
+
+    if (_toJulian && year < 1) year--;
+    return pack(year, month, day);
+  }
+
+  /**
+   * Gets the number of days a Julian date lags behind the Gregorian date
+   * with the same year, month and day.
+   *
+   * @param year an astronomical year, beginning in March.
+   * @return the offset, in days.
+   */
+  static int offset(int year) {
+    long century = floorDiv(year, 100);
+    int i = (int) century - FIRST_CENTURY;
+    if (i >= 0 && i < _offsets.length)
+      return _offsets[i];
+    return (int) (century - floorDiv(century, 4) - 2);
+  }
+
+//////////////////////////////////////////////////////////////////////////////
+// private
+
+  // Centuries covered by the offset table, from -9999 to 9999.
+  private static final int FIRST_CENTURY = -100;
+  private static final int LAST_CENTURY = 99;
+
+  private static final int[] _offsets = buildOffsets();
+
+  private final boolean _toJulian;
+
+  private GregorianJulianShift(boolean toJulian) {
+    _toJulian = toJulian;
+  }
+
+  private static int[] buildOffsets() {
+    int[] offsets = new int[LAST_CENTURY - FIRST_CENTURY + 1];
+    for (int i = 0; i < offsets.length; ++i) {
+      long century = FIRST_CENTURY + i;
+      offsets[i] = (int) (century - floorDiv(century, 4) - 2);
+    }
+    return offsets;
+  }
+
+  private int daysInMonth(int year, int month) {
+    if (_toJulian)
+      return JulianCalendar.getNumberOfDaysInMonth(month, year);
+    return GregorianCalendar.getNumberOfDaysInMonth(year, month, false);
+  }
+}
@@ -0,0 +1,72 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.system;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.date.Almanac;
+import com.hm.cal.date.GregorianCalendar;
+import com.hm.cal.util.PackedDate;
+
+/**
+ * The proleptic Gregorian calendar system.
+ *
+ * @since 2026.10.16
+ */
+final class GregorianSystem implements CalendarSystem {
+
+  @Override
+  public CalendarId getId() {
+    return CalendarId.GREGORIAN;
+  }
+
+  @Override
+  public long toFixed(int year, int month, int day) {
+    return GregorianCalendar.toFixed(year, month, day);
+  }
+
+  @Override
+  public long fromFixed(long fixed) {
+    return GregorianCalendar.fromFixed(fixed);
+  }
+
+  @Override
+  public long toFixed(Almanac a) {
+    return GregorianCalendar.toFixed(a.getYear(), a.getMonth(), a.getDay());
+  }
+
+  @Override
+  public Almanac toAlmanac(long fixed) {
+    long date = fromFixed(fixed);
+    return toAlmanac(PackedDate.getYear(date),
+      PackedDate.getMonth(date),
+      PackedDate.getDay(date));
+  }
+
+  @Override
+  public Almanac toAlmanac(int year, int month, int day) {
+    return new GregorianCalendar(year, month, day);
+  }
+
+  @Override
+  public int getNumberOfMonthsInYear(int year) {
+    return 12;
+  }
+
+  @Override
+  public int getNumberOfDaysInMonth(int year, int month) {
+    return GregorianCalendar.getNumberOfDaysInMonth(year, month, false);
+  }
+}
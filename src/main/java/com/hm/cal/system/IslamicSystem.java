@@ -0,0 +1,75 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.system;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.date.Almanac;
+import com.hm.cal.date.IslamicCalendar;
+import com.hm.cal.util.PackedDate;
+
+/**
+ * The tabular Islamic calendar system.
+ * Dates are civil and follow the base-16 leap year rule.
+ *
+ * @since 2026.10.16
+ */
+final class IslamicSystem implements CalendarSystem {
+
+  @Override
+  public CalendarId getId() {
+    return CalendarId.ISLAMIC;
+  }
+
+  @Override
+  public long toFixed(int year, int month, int day) {
+    return IslamicCalendar.toFixed(year, month, day);
+  }
+
+  @Override
+  public long fromFixed(long fixed) {
+    return IslamicCalendar.fromFixed(fixed);
+  }
+
+  @Override
+  public long toFixed(Almanac a) {
+    IslamicCalendar date = (IslamicCalendar) a;
+    return IslamicCalendar.toFixed(date.getYear(), date.getMonth(),
+      date.getDay(), date.getCalendarType(), date.getLeapYearRule());
+  }
+
+  @Override
+  public Almanac toAlmanac(long fixed) {
+    long date = fromFixed(fixed);
+    return toAlmanac(PackedDate.getYear(date),
+      PackedDate.getMonth(date),
+      PackedDate.getDay(date));
+  }
+
+  @Override
+  public Almanac toAlmanac(int year, int month, int day) {
+    return new IslamicCalendar(year, month, day);
+  }
+
+  @Override
+  public int getNumberOfMonthsInYear(int year) {
+    return 12;
+  }
+
+  @Override
+  public int getNumberOfDaysInMonth(int year, int month) {
+    return IslamicCalendar.getNumberOfDaysInMonthInYear(month, year);
+  }
+}
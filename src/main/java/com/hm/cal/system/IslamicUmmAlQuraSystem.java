@@ -0,0 +1,78 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.system;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.date.Almanac;
+import com.hm.cal.date.IslamicCalendar;
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.date.IslamicCalendar.CalendarType.UMM_AL_QURA;
+import static com.hm.cal.date.IslamicCalendar.LeapYearRule.WEST_ISLAMIC;
+
+/**
+ * The Umm al-Qura Islamic calendar system.
+ * Month lengths are read from a table covering the years 1300 - 1600.
+ *
+ * @since 2026.10.16
+ */
+final class IslamicUmmAlQuraSystem implements CalendarSystem {
+
+  @Override
+  public CalendarId getId() {
+    return CalendarId.ISLAMIC_UMM_AL_QURA;
+  }
+
+  @Override
+  public long toFixed(int year, int month, int day) {
+    return IslamicCalendar.toFixed(year, month, day, UMM_AL_QURA,
+      WEST_ISLAMIC);
+  }
+
+  @Override
+  public long fromFixed(long fixed) {
+    return IslamicCalendar.fromFixed(fixed, UMM_AL_QURA, WEST_ISLAMIC);
+  }
+
+  @Override
+  public long toFixed(Almanac a) {
+    return toFixed(a.getYear(), a.getMonth(), a.getDay());
+  }
+
+  @Override
+  public Almanac toAlmanac(long fixed) {
+    long date = fromFixed(fixed);
+    return toAlmanac(PackedDate.getYear(date),
+      PackedDate.getMonth(date),
+      PackedDate.getDay(date));
+  }
+
+  @Override
+  public Almanac toAlmanac(int year, int month, int day) {
+    return new IslamicCalendar(year, month, day, UMM_AL_QURA);
+  }
+
+  @Override
+  public int getNumberOfMonthsInYear(int year) {
+    return 12;
+  }
+
+  @Override
+  public int getNumberOfDaysInMonth(int year, int month) {
+    return IslamicCalendar.getNumberOfDaysInMonthInYear(month, year,
+      UMM_AL_QURA, WEST_ISLAMIC);
+  }
+}
@@ -0,0 +1,81 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.system;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.date.Almanac;
+import com.hm.cal.date.MayaCalendar;
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.util.Util.floorDiv;
+import static com.hm.cal.util.Util.floorMod;
+
+/**
+ * The Maya Long Count calendar system.
+ * <p>
+ * The Long Count has no years or months. This system treats the Tun (360
+ * days) counted from the epoch as the year, the Uinal [0-17] as the month
+ * and the K'in [0-19] as the day.
+ *
+ * @since 2026.10.16
+ */
+final class MayaSystem implements CalendarSystem {
+
+  private static final long _fixedEpoch = MayaCalendar.toFixed(0, 0, 0, 0, 0);
+
+  @Override
+  public CalendarId getId() {
+    return CalendarId.MAYA;
+  }
+
+  @Override
+  public long toFixed(int year, int month, int day) {
+    return MayaCalendar.toFixed(0, 0, year, month, day);
+  }
+
+  @Override
+  public long fromFixed(long fixed) {
+    long d = fixed - _fixedEpoch;
+    long tun = floorDiv(d, 360);
+    d = floorMod(d, 360);
+    return PackedDate.pack((int) tun, (int) (d / 20), (int) (d % 20));
+  }
+
+  @Override
+  public long toFixed(Almanac a) {
+    return ((MayaCalendar) a).getFixed();
+  }
+
+  @Override
+  public Almanac toAlmanac(long fixed) {
+    return MayaCalendar.fromPacked(MayaCalendar.fromFixed(fixed));
+  }
+
+  @Override
+  public Almanac toAlmanac(int year, int month, int day) {
+    return toAlmanac(toFixed(year, month, day));
+  }
+
+  @Override
+  public int getNumberOfMonthsInYear(int year) {
+    return 18;
+  }
+
+  @Override
+  public int getNumberOfDaysInMonth(int year, int month) {
+    return 20;
+  }
+}
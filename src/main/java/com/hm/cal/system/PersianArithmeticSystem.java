@@ -0,0 +1,77 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.system;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.date.Almanac;
+import com.hm.cal.date.PersianCalendar;
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.date.PersianCalendar.CalendarType.ARITHMETIC;
+
+/**
+ * The arithmetic Persian calendar system.
+ * Leap years follow a fixed 33-year cycle; see
+ * {@link PersianCalendar.CalendarType}.
+ *
+ * @since 2026.10.16
+ */
+final class PersianArithmeticSystem implements CalendarSystem {
+
+  @Override
+  public CalendarId getId() {
+    return CalendarId.PERSIAN_ARITHMETIC;
+  }
+
+  @Override
+  public long toFixed(int year, int month, int day) {
+    return PersianCalendar.toFixed(year, month, day, ARITHMETIC);
+  }
+
+  @Override
+  public long fromFixed(long fixed) {
+    return PersianCalendar.fromFixed(fixed, ARITHMETIC);
+  }
+
+  @Override
+  public long toFixed(Almanac a) {
+    return PersianCalendar.toFixed(a.getYear(), a.getMonth(), a.getDay(),
+      ARITHMETIC);
+  }
+
+  @Override
+  public Almanac toAlmanac(long fixed) {
+    long date = fromFixed(fixed);
+    return toAlmanac(PackedDate.getYear(date),
+      PackedDate.getMonth(date),
+      PackedDate.getDay(date));
+  }
+
+  @Override
+  public Almanac toAlmanac(int year, int month, int day) {
+    return new PersianCalendar(year, month, day, ARITHMETIC);
+  }
+
+  @Override
+  public int getNumberOfMonthsInYear(int year) {
+    return 12;
+  }
+
+  @Override
+  public int getNumberOfDaysInMonth(int year, int month) {
+    return PersianCalendar.getNumberOfDaysInMonth(year, month, ARITHMETIC);
+  }
+}
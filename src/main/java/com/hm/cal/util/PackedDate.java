@@ -0,0 +1,73 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.util;
+
+/**
+ * A year, month and day packed into a single primitive long.
+ * <p>
+ * Packed dates let the day-number kernels of each calendar hand a date back
+ * to the caller without allocating an object. The year occupies the upper
+ * 48 bits (signed), while the month and the day occupy 8 bits each.
+ *
+ * @since 2026.10.16
+ */
+public final class PackedDate {
+
+  /**
+   * Packs a year, month and day.
+   *
+   * @param year  a year.
+   * @param month a month [0-255].
+   * @param day   a day [0-255].
+   * @return the packed date.
+   */
+  public static long pack(int year, int month, int day) {
+    return ((long) year << 16) | ((month & 0xFF) << 8) | (day & 0xFF);
+  }
+
+  /**
+   * Gets the year of a packed date.
+   *
+   * @param date a packed date.
+   * @return the year.
+   */
+  public static int getYear(long date) {
+    return (int) (date >> 16);
+  }
+
+  /**
+   * Gets the month of a packed date.
+   *
+   * @param date a packed date.
+   * @return the month.
+   */
+  public static int getMonth(long date) {
+    return (int) ((date >>> 8) & 0xFF);
+  }
+
+  /**
+   * Gets the day of a packed date.
+   *
+   * @param date a packed date.
+   * @return the day.
+   */
+  public static int getDay(long date) {
+    return (int) (date & 0xFF);
+  }
+
+  private PackedDate() {
+  }
+}
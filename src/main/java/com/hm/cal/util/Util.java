@@ -93,4 +93,28 @@ public final class Util {
     return rad - (2 * Math.PI) * (Math.floor(rad / (2 * Math.PI)));
   }
 
+  /**
+   * Integer division rounded towards negative infinity.
+   *
+   * @param x the dividend.
+   * @param y the divisor.
+   * @return the largest integer less than or equal to x / y.
+   */
+  public static long floorDiv(long x, long y) {
+    long q = x / y;
+    if ((x % y != 0) && ((x ^ y) < 0)) q--;
+    return q;
+  }
+
+  /**
+   * Integer modulus whose sign follows the divisor.
+   *
+   * @param x the dividend.
+   * @param y the divisor.
+   * @return x - floorDiv(x, y) * y.
+   */
+  public static long floorMod(long x, long y) {
+    return x - floorDiv(x, y) * y;
+  }
+
 }
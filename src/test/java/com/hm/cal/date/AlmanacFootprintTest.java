@@ -0,0 +1,127 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Test;
+
+/**
+ * Tests the memory footprint of the date objects.
+ * <p>
+ * Sizes are estimated from the instance fields, assuming a 12-byte object
+ * header, 4-byte compressed references and 8-byte alignment, which is the
+ * default layout of a 64-bit HotSpot VM with a heap below 32 GB.
+ *
+ * @since 2026.10.16
+ */
+public class AlmanacFootprintTest {
+
+  @Test
+  public void datesShouldStayCompact() {
+    // Plain calendars: the year, month and day, plus at most one type field.
+    check(24, new GregorianCalendar(2000, 1, 1));
+    check(24, new JulianCalendar(2000, 1, 1));
+    check(24, new HebrewCalendar(5760, 10, 23));
+    check(24, new CopticCalendar(1716, 4, 22));
+    check(24, new IndianCivilCalendar(1921, 10, 11));
+    check(32, new IslamicCalendar(1420, 9, 24));
+    check(32, new IslamicCalendar(1420, 9, 24,
+      IslamicCalendar.CalendarType.UMM_AL_QURA));
+    check(32, new EthiopianCalendar(1992, 4, 22));
+    check(32, new SovietCalendar(2000, 1, 1));
+    check(32, new EraCalendar(2000, 1, 1, EraCalendar.CalendarType.MINGUO));
+    check(32, new EraCalendar(EraCalendar.JapaneseEra.HEISEI, 12, 1, 1));
+    check(32, new MayaCalendar(12, 19, 6, 15, 2));
+
+    // Julian Days add the read-only flag of the epoch constants.
+    check(40, new JulianDay(2451544.5));
+
+    // Memoized calendars add 12 bytes for the cached day number.
+    check(40, new ChineseCalendar(2000, 1, 1));
+    check(40, new PersianCalendar(1378, 10, 11));
+    check(40, new BahaiCalendar(156, 16, 6));
+    check(48, new FrenchRepublicanCalendar(208, 4, 12));
+  }
+
+  @Test
+  public void returnedNameTablesShouldBeCopies() {
+    Almanac[][] pairs = {
+      { new GregorianCalendar(2000, 1, 1), new GregorianCalendar(1900, 5, 5) },
+      { new JulianCalendar(2000, 1, 1), new JulianCalendar(1900, 5, 5) },
+      { new HebrewCalendar(5760, 10, 23), new HebrewCalendar(5700, 1, 1) },
+      { new IslamicCalendar(1420, 9, 24), new IslamicCalendar(1400, 1, 1) },
+      { new CopticCalendar(1716, 4, 22), new CopticCalendar(1700, 1, 1) },
+      { new PersianCalendar(1378, 10, 11), new PersianCalendar(1300, 1, 1) },
+      { new BahaiCalendar(156, 16, 6), new BahaiCalendar(180, 1, 1) },
+      { new ChineseCalendar(2000, 1, 1), new ChineseCalendar(1990, 5, 5) },
+      { new SovietCalendar(1930, 3, 15), new SovietCalendar(1930, 3, 16) },
+    };
+    for (Almanac[] pair : pairs) {
+      String name = pair[0].getName();
+      String[] months = pair[0].getMonths();
+      String[] weekDays = pair[0].getWeekDays();
+      String month = months[0];
+      String weekDay = weekDays[0];
+      months[0] = "x";
+      weekDays[0] = "x";
+      assertEquals("FAIL: " + name + " months are shared",
+        month, pair[1].getMonths()[0]);
+      assertEquals("FAIL: " + name + " week days are shared",
+        weekDay, pair[1].getWeekDays()[0]);
+      assertEquals("FAIL: " + name + " months are shared",
+        month, pair[0].getMonths()[0]);
+    }
+    String[] names = IslamicCalendar.getMonthNames();
+    names[0] = "x";
+    assertFalse("FAIL: Islamic month names are shared",
+      "x".equals(IslamicCalendar.getMonthNames()[0]));
+  }
+
+/////////////////////////////////////////////////////////////////////////////
+// private
+
+  private static void check(int expected, Almanac a) {
+    assertEquals("FAIL: " + a.getClass().getSimpleName() + " footprint",
+      expected, sizeOf(a.getClass()));
+  }
+
+  private static int sizeOf(Class<?> c) {
+    int size = 12;
+    for (; c != null; c = c.getSuperclass()) {
+      for (Field f : c.getDeclaredFields()) {
+        if (Modifier.isStatic(f.getModifiers()))
+          continue;
+        assertFalse("FAIL: " + f + " holds an array per instance",
+          f.getType().isArray());
+        size += fieldSize(f.getType());
+      }
+    }
+    return (size + 7) & ~7;
+  }
+
+  private static int fieldSize(Class<?> type) {
+    if (type == long.class || type == double.class) return 8;
+    if (type == int.class || type == float.class) return 4;
+    if (type == short.class || type == char.class) return 2;
+    if (type == byte.class || type == boolean.class) return 1;
+    return 4;
+  }
+
+}
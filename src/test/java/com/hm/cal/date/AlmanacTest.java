@@ -0,0 +1,166 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Test;
+
+/**
+ * Tests {@link com.hm.cal.date.Almanac}.
+ *
+ * @since 2026.10.16
+ */
+public class AlmanacTest {
+
+  @Test
+  public void dayNumberShouldFollowTheDate() {
+    GregorianCalendar date = new GregorianCalendar(2024, 2, 28);
+    long fixed = GregorianCalendar.toFixed(2024, 2, 28);
+    assertEquals(fixed, date.getDayNumber());
+    date.nextDay();
+    date.nextDay();
+    assertEquals(fixed + 2, date.getDayNumber());
+    assertEquals(new GregorianCalendar(2024, 3, 1), date);
+    date.prevDay();
+    assertEquals(fixed + 1, date.getDayNumber());
+    date.setYear(2023);
+    assertEquals(GregorianCalendar.toFixed(2023, 2, 29), date.getDayNumber());
+    date.set(new GregorianCalendar(2000, 1, 1));
+    assertEquals(GregorianCalendar.toFixed(2000, 1, 1), date.getDayNumber());
+  }
+
+  @Test
+  public void memoizedDayNumberShouldFollowTheDate() {
+    PersianCalendar date = new PersianCalendar(1402, 12, 29);
+    long fixed = PersianCalendar.toFixed(1402, 12, 29);
+    assertEquals(fixed, date.getDayNumber());
+    date.nextDay();
+    date.nextDay();
+    assertEquals(fixed + 2, date.getDayNumber());
+    assertEquals(new PersianCalendar(1403, 1, 2), date);
+    date.prevDay();
+    date.prevDay();
+    date.prevDay();
+    assertEquals(fixed - 1, date.getDayNumber());
+    date.setYear(1400);
+    assertEquals(PersianCalendar.toFixed(1400, 12, 28), date.getDayNumber());
+    date.set(new GregorianCalendar(2000, 1, 1));
+    assertEquals(GregorianCalendar.toFixed(2000, 1, 1), date.getDayNumber());
+  }
+
+  @Test
+  public void dayNumberShouldFollowTheCalendarType() {
+    IslamicCalendar date = new IslamicCalendar(1445, 9, 1);
+    long civil = date.getDayNumber();
+    date.setCalendarType(IslamicCalendar.CalendarType.UMM_AL_QURA);
+    assertEquals(IslamicCalendar.toFixed(1445, 9, 1,
+                   IslamicCalendar.CalendarType.UMM_AL_QURA),
+                 date.getDayNumber());
+    date.setCalendarType(IslamicCalendar.CalendarType.CIVIL);
+    assertEquals(civil, date.getDayNumber());
+
+    EthiopianCalendar ethiopian = new EthiopianCalendar(2000, 1, 1);
+    ethiopian.getDayNumber();
+    ethiopian.setEra(EthiopianCalendar.Era.AMETE_ALEM);
+    assertEquals(ethiopian.getCalendarSystem().toFixed(ethiopian),
+                 ethiopian.getDayNumber());
+
+    JulianDay jd = new JulianDay(2460381.5);
+    assertEquals(2460382L, jd.getDayNumber());
+    jd.plus(3);
+    assertEquals(2460385L, jd.getDayNumber());
+  }
+
+  @Test
+  public void comparisonsShouldUseTheDayNumber() {
+    PersianCalendar a = new PersianCalendar(1403, 1, 1);
+    PersianCalendar b = new PersianCalendar(1403, 1, 2);
+    assertTrue(a.isBefore(b));
+    assertTrue(b.isAfter(a));
+    b.prevDay();
+    b.prevDay();
+    assertTrue(b.isBefore(a));
+  }
+
+  @Test
+  public void equalDatesShouldHaveEqualHashCodes() {
+    Almanac[][] pairs = {
+      { new GregorianCalendar(2024, 2, 29), new GregorianCalendar(2024, 2, 29) },
+      { new JulianCalendar(2024, 2, 16), new JulianCalendar(2024, 2, 16) },
+      { new HebrewCalendar(5784, 12, 20), new HebrewCalendar(5784, 12, 20) },
+      { new IslamicCalendar(1445, 8, 19), new IslamicCalendar(1445, 8, 19) },
+      { new PersianCalendar(1402, 12, 10), new PersianCalendar(1402, 12, 10) },
+      { new FrenchRepublicanCalendar(232, 6, 9),
+        new FrenchRepublicanCalendar(232, 6, 9) },
+      { new MayaCalendar(13, 0, 11, 8, 12), new MayaCalendar(13, 0, 11, 8, 12) },
+      { new JulianDay(2460369.5), new JulianDay(2460369.5) },
+    };
+    for (Almanac[] pair : pairs) {
+      assertEquals("FAIL: " + pair[0], pair[0], pair[1]);
+      assertEquals("FAIL: " + pair[0], pair[0].hashCode(), pair[1].hashCode());
+      pair[1].nextDay();
+      assertFalse("FAIL: " + pair[0], pair[0].equals(pair[1]));
+    }
+
+    IslamicCalendar civil = new IslamicCalendar(1445, 8, 19);
+    IslamicCalendar ummAlQura = new IslamicCalendar(1445, 8, 19,
+      IslamicCalendar.CalendarType.UMM_AL_QURA);
+    assertFalse("FAIL: calendar types differ", civil.equals(ummAlQura));
+    assertFalse("FAIL: calendars differ",
+      new GregorianCalendar(2024, 2, 29).equals(
+        new JulianCalendar(2024, 2, 29)));
+  }
+
+  @Test
+  public void mapLookupsShouldNotAllocate() {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean bean =
+      (com.sun.management.ThreadMXBean) threads;
+    assumeTrue(bean.isThreadAllocatedMemorySupported() &&
+               bean.isThreadAllocatedMemoryEnabled());
+
+    int n = 1000;
+    Map<Almanac, Integer> map = new HashMap<Almanac, Integer>();
+    GregorianCalendar[] keys = new GregorianCalendar[n];
+    GregorianCalendar date = new GregorianCalendar(2000, 1, 1);
+    for (int i = 0; i < n; ++i) {
+      map.put(new GregorianCalendar(date), i);
+      keys[i] = new GregorianCalendar(date);
+      date.nextDay();
+    }
+
+    long id = Thread.currentThread().getId();
+    long before = bean.getThreadAllocatedBytes(id);
+    int found = 0;
+    for (int k = 0; k < 100; ++k)
+      for (GregorianCalendar key : keys)
+        if (map.get(key) != null) ++found;
+    long allocated = bean.getThreadAllocatedBytes(id) - before;
+
+    assertEquals(100 * n, found);
+    assertTrue("FAIL: lookups allocated " + allocated + " bytes",
+               allocated < 64 * 1024);
+  }
+}
@@ -0,0 +1,88 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.util.AlmanacConverter.toBahaiCalendar;
+import static com.hm.cal.util.AlmanacConverter.toGregorianCalendar;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests {@link com.hm.cal.date.BahaiCalendar}.
+ *
+ * @since 2026.10.16
+ */
+public class BahaiCalendarTest {
+
+  @Test
+  public void nawRuzShouldFollowTheTehranEquinox() {
+    assertEquals("FAIL: 1 Bahá 1 is not 21 March 1844",
+                 GregorianCalendar.toFixed(1844, 3, 21),
+                 BahaiCalendar.toFixed(1, 1, 1));
+    assertEquals("FAIL: 1 Bahá 171 is not 21 March 2014",
+                 GregorianCalendar.toFixed(2014, 3, 21),
+                 BahaiCalendar.getNawRuz(171));
+
+    int[][] nawRuz = {
+      { 172, 2015, 21 }, { 173, 2016, 20 }, { 175, 2018, 21 },
+      { 181, 2024, 20 }, { 182, 2025, 20 }, { 183, 2026, 21 },
+      { 184, 2027, 21 }, { 188, 2031, 21 }, { 216, 2059, 20 },
+      { 221, 2064, 20 }
+    };
+    for (int[] n : nawRuz)
+      assertEquals("FAIL: Naw-Rúz " + n[0] + " is broken",
+                   new GregorianCalendar(n[1], 3, n[2]),
+                   toGregorianCalendar(new BahaiCalendar(n[0], 1, 1)));
+  }
+
+  @Test
+  public void ayyamIHaShouldPrecedeTheLastMonth() {
+    BahaiCalendar date = new BahaiCalendar(181, 18, 19);
+    date.nextDay();
+    assertTrue(date.isIntercalary());
+    assertEquals("1 Ayyám-i-Há, 181", date.getDate());
+    assertEquals(4, date.getNumberOfDaysInMonth());
+    date.addDays(4);
+    assertEquals(new BahaiCalendar(181, 19, 1), date);
+    assertEquals("FAIL: 1 ʻAláʼ 181 is not 1 March 2025",
+                 new BahaiCalendar(181, 19, 1),
+                 toBahaiCalendar(new GregorianCalendar(2025, 3, 1)));
+    assertEquals(5, BahaiCalendar.getNumberOfDaysInMonth(182, 0));
+    assertEquals(4, BahaiCalendar.getNumberOfDaysInMonth(183, 0));
+    assertEquals("Jalál", new BahaiCalendar(181, 19, 1).getWeekDay());
+  }
+
+  @Test
+  public void fixedDayNumbersShouldRoundTrip() {
+    BahaiCalendar date = new BahaiCalendar(1, 1, 1);
+    long first = date.getFixed();
+    for (long fixed = first; fixed < first + 250000; ++fixed) {
+      long packed = BahaiCalendar.fromFixed(fixed);
+      assertEquals("FAIL: Day " + fixed + " is broken",
+                   PackedDate.pack(date.getYear(), date.getMonth(),
+                     date.getDay()),
+                   packed);
+      assertEquals("FAIL: Day " + fixed + " is broken",
+                   fixed,
+                   BahaiCalendar.toFixed(PackedDate.getYear(packed),
+                     PackedDate.getMonth(packed), PackedDate.getDay(packed)));
+      date.nextDay();
+    }
+  }
+}
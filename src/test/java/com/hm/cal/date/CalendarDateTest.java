@@ -0,0 +1,146 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import java.util.TreeSet;
+
+import com.hm.cal.constants.CalendarId;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Tests {@link com.hm.cal.date.CalendarDate}.
+ *
+ * @since 2026.10.16
+ */
+public class CalendarDateTest {
+
+  @Test
+  public void datesShouldKeepTheirDayNumber() {
+    GregorianCalendar g = new GregorianCalendar(2024, 3, 11);
+    CalendarDate date = CalendarDate.of(g);
+    g.setDay(12);
+    assertEquals(GregorianCalendar.toFixed(2024, 3, 11), date.getFixed());
+    assertEquals(11, date.getDay());
+
+    Almanac a = date.toAlmanac();
+    assertNotSame(a, date.toAlmanac());
+    a.nextDay();
+    assertEquals(new GregorianCalendar(2024, 3, 11), date.toAlmanac());
+  }
+
+  @Test
+  public void datesShouldConvertBetweenCalendars() {
+    CalendarDate date = CalendarDate.of(CalendarId.GREGORIAN, 2024, 3, 11);
+    CalendarDate islamic = date.to(CalendarId.ISLAMIC_UMM_AL_QURA);
+    assertEquals(1445, islamic.getYear());
+    assertEquals(9, islamic.getMonth());
+    assertEquals(1, islamic.getDay());
+    assertTrue(date.isSameDay(islamic));
+    assertFalse(date.equals(islamic));
+    assertEquals(date, islamic.to(CalendarId.GREGORIAN));
+    assertEquals(date.hashCode(), islamic.to(CalendarId.GREGORIAN).hashCode());
+    assertEquals(1, date.getWeekDayNumber());
+  }
+
+  @Test
+  public void datesShouldCompareByDay() {
+    CalendarDate date = CalendarDate.of(CalendarId.GREGORIAN, 2024, 3, 11);
+    CalendarDate next = date.plusDays(1).to(CalendarId.HEBREW);
+    assertTrue(date.isBefore(next));
+    assertTrue(next.isAfter(date));
+    assertEquals(-1, date.compareTo(next));
+    assertEquals(0,
+                 date.compareTo(next.plusDays(-1).to(CalendarId.GREGORIAN)));
+  }
+
+  @Test
+  public void sameDaysInOtherCalendarsShouldStayDistinct() {
+    CalendarDate date = CalendarDate.of(CalendarId.GREGORIAN, 2024, 3, 11);
+    CalendarDate hebrew = date.to(CalendarId.HEBREW);
+    assertTrue(date.isSameDay(hebrew));
+    assertFalse(date.equals(hebrew));
+    assertTrue("FAIL: compareTo is not consistent with equals",
+               date.compareTo(hebrew) != 0);
+    assertEquals(-date.compareTo(hebrew), hebrew.compareTo(date));
+
+    TreeSet<CalendarDate> dates = new TreeSet<CalendarDate>();
+    dates.add(date);
+    dates.add(hebrew);
+    dates.add(date.to(CalendarId.JULIAN));
+    dates.add(date.plusDays(-1).to(CalendarId.ISLAMIC));
+    assertEquals(4, dates.size());
+    assertEquals(date.plusDays(-1).to(CalendarId.ISLAMIC), dates.first());
+    assertTrue(dates.contains(
+      CalendarDate.of(CalendarId.GREGORIAN, 2024, 3, 11)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void julianDaysShouldNotBeCalendarDates() {
+    CalendarDate.of(new JulianDay(2460381.5));
+  }
+
+  @Test
+  public void variantsShouldRoundTrip() {
+    Almanac[] dates = {
+      new IslamicCalendar(1445, 8, 19),
+      new IslamicCalendar(1445, 8, 19,
+        IslamicCalendar.CalendarType.UMM_AL_QURA),
+      new PersianCalendar(1402, 12, 10),
+      new PersianCalendar(1402, 12, 10,
+        PersianCalendar.CalendarType.ARITHMETIC),
+      new FrenchRepublicanCalendar(232, 6, 9),
+      new FrenchRepublicanCalendar(232, 6, 9,
+        FrenchRepublicanCalendar.CalendarType.ARITHMETIC),
+      new EthiopianCalendar(2016, 6, 20),
+      new EthiopianCalendar(7516, 6, 20, EthiopianCalendar.Era.AMETE_ALEM),
+      new SovietCalendar(1930, 3, 15),
+      new SovietCalendar(1930, 3, 15, SovietCalendar.CalendarType.REVOLUTIONARY),
+      new EraCalendar(EraCalendar.JapaneseEra.REIWA, 6, 2, 29),
+    };
+    for (Almanac a : dates)
+      assertEquals("FAIL: " + a + " does not round trip",
+                   a, CalendarDate.of(a).toAlmanac());
+  }
+
+  @Test
+  public void unsupportedIslamicVariantsShouldBeRejected() {
+    IslamicCalendar[] dates = {
+      new IslamicCalendar(1445, 8, 19,
+        IslamicCalendar.CalendarType.ASTRONOMICAL),
+      new IslamicCalendar(1445, 8, 19,
+        IslamicCalendar.LeapYearRule.EAST_ISLAMIC),
+      new IslamicCalendar(1445, 8, 19,
+        IslamicCalendar.LeapYearRule.TAIYABI_ISMAILI),
+      new IslamicCalendar(1445, 8, 19,
+        IslamicCalendar.LeapYearRule.HABASH_AL_HASIB),
+    };
+    for (IslamicCalendar a : dates) {
+      try {
+        CalendarDate.of(a);
+        fail("FAIL: " + a.getCalendarType() + ", " + a.getLeapYearRule() +
+             " is accepted");
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.util.AlmanacConverter.toChineseCalendar;
+import static com.hm.cal.util.AlmanacConverter.toGregorianCalendar;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ * Tests {@link com.hm.cal.date.ChineseCalendar}.
+ *
+ * @since 2026.10.16
+ */
+public class ChineseCalendarTest {
+
+  @Test
+  public void newYearsShouldMatchPublishedDates() {
+    int[][] newYears = {
+      { 1900, 1, 31 }, { 1901, 2, 19 }, { 1906, 1, 25 }, { 1949, 1, 29 },
+      { 1985, 2, 20 }, { 1990, 1, 27 }, { 2000, 2, 5 }, { 2012, 1, 23 },
+      { 2017, 1, 28 }, { 2020, 1, 25 }, { 2023, 1, 22 }, { 2024, 2, 10 },
+      { 2025, 1, 29 }, { 2033, 1, 31 }, { 2034, 2, 19 }
+    };
+    for (int[] date : newYears)
+      assertEquals("FAIL: Chinese New Year " + date[0] + " is broken",
+                   new GregorianCalendar(date[0], date[1], date[2]),
+                   toGregorianCalendar(new ChineseCalendar(date[0], 1, 1)));
+  }
+
+  @Test
+  public void leapMonthsShouldMatchPublishedYears() {
+    int[][] leapMonths = {
+      { 1900, 8 }, { 1984, 10 }, { 2012, 4 }, { 2014, 9 }, { 2017, 6 },
+      { 2020, 4 }, { 2023, 2 }, { 2025, 6 }, { 2028, 5 }, { 2033, 11 },
+      { 2024, 0 }, { 2026, 0 }
+    };
+    for (int[] leap : leapMonths) {
+      ChineseYearProfile profile = ChineseCalendar.getYearProfile(leap[0]);
+      int month = profile.getLeapMonth();
+      assertEquals("FAIL: Leap month of " + leap[0] + " is broken",
+                   leap[1],
+                   (month == 0) ? 0 : profile.getMonthNumber(month));
+      assertEquals(leap[1] == 0 ? 12 : 13, profile.getNumberOfMonths());
+    }
+  }
+
+  @Test
+  public void leapMonthsShouldBeNamed() {
+    ChineseCalendar date = toChineseCalendar(new GregorianCalendar(2023, 3, 25));
+    assertEquals(3, date.getMonth());
+    assertEquals(2, date.getMonthNumber());
+    assertEquals(true, date.isLeapMonth());
+    assertEquals("4 Run Eryue, Gui-Mao (2023)", date.getDate());
+    assertEquals("Rabbit", date.getZodiac());
+    assertEquals("Jia-Chen", ChineseCalendar.getYearName(2024));
+  }
+
+  @Test
+  public void profilesShouldBeCached() {
+    assertSame("FAIL: Year profiles are not cached",
+               ChineseCalendar.getYearProfile(2024),
+               ChineseCalendar.getYearProfile(2024));
+    ChineseYearProfile profile = ChineseCalendar.getYearProfile(2024);
+    assertEquals("FAIL: Lichun 2024 is not 4 February",
+                 GregorianCalendar.toFixed(2024, 2, 4),
+                 profile.getSolarTerm(1));
+    assertEquals("FAIL: Dongzhi 2024 is not 21 December",
+                 GregorianCalendar.toFixed(2024, 12, 21),
+                 profile.getSolarTerm(22));
+  }
+
+  @Test
+  public void fixedDayNumbersShouldRoundTrip() {
+    ChineseCalendar date = new ChineseCalendar(2000, 1, 1);
+    long first = ChineseCalendar.toFixed(2000, 1, 1);
+    long last = ChineseCalendar.toFixed(2040, 1, 1);
+    for (long fixed = first; fixed < last; ++fixed) {
+      assertEquals("FAIL: Day " + fixed + " is broken",
+                   PackedDate.pack(date.getYear(), date.getMonth(),
+                     date.getDay()),
+                   ChineseCalendar.fromFixed(fixed));
+      date.nextDay();
+    }
+  }
+
+  @Test
+  public void previousDayShouldCrossLunisolarYears() {
+    ChineseCalendar date = new ChineseCalendar(2023, 1, 1);
+    long fixed = date.getDayNumber();
+    date.prevDay();
+    assertEquals("FAIL: 2023 does not step back into the 12th month of 2022",
+                 ChineseCalendar.fromFixed(fixed - 1),
+                 PackedDate.pack(date.getYear(), date.getMonth(), date.getDay()));
+    assertEquals(2022, date.getYear());
+    assertEquals(12, date.getMonth());
+
+    date = new ChineseCalendar(2024, 1, 1);
+    fixed = date.getDayNumber();
+    date.prevDay();
+    assertEquals("FAIL: 2024 does not step back into the 13th month of 2023",
+                 ChineseCalendar.fromFixed(fixed - 1),
+                 PackedDate.pack(date.getYear(), date.getMonth(), date.getDay()));
+    assertEquals(13, date.getMonth());
+
+    date = new ChineseCalendar(2024, 2, 1);
+    fixed = date.getDayNumber();
+    date.subtractDays(400);
+    assertEquals(ChineseCalendar.fromFixed(fixed - 400),
+                 PackedDate.pack(date.getYear(), date.getMonth(), date.getDay()));
+    assertEquals(fixed - 400, date.getDayNumber());
+  }
+}
@@ -0,0 +1,69 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.util.AlmanacConverter.toCopticCalendar;
+import static com.hm.cal.util.AlmanacConverter.toGregorianCalendar;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests {@link com.hm.cal.date.CopticCalendar}.
+ *
+ * @since 2026.10.16
+ */
+public class CopticCalendarTest {
+
+  @Test
+  public void datesShouldConvertToGregorian() {
+    assertEquals("FAIL: 1 Thout 1 is not 29 August 284 (Julian)",
+                 JulianCalendar.toFixed(284, 8, 29),
+                 CopticCalendar.toFixed(1, 1, 1));
+    assertEquals("FAIL: 1 Thout 1741 is not 11 September 2024",
+                 new GregorianCalendar(2024, 9, 11),
+                 toGregorianCalendar(new CopticCalendar(1741, 1, 1)));
+    assertEquals("FAIL: 1 Thout 1740 is not 12 September 2023",
+                 new GregorianCalendar(2023, 9, 12),
+                 toGregorianCalendar(new CopticCalendar(1740, 1, 1)));
+    assertEquals("FAIL: 7 January 2024 is not 28 Koiak 1740",
+                 new CopticCalendar(1740, 4, 28),
+                 toCopticCalendar(new GregorianCalendar(2024, 1, 7)));
+  }
+
+  @Test
+  public void leapYearsShouldFallBeforeJulianLeapYears() {
+    assertEquals(true, CopticCalendar.isLeapYear(1739));
+    assertEquals(false, CopticCalendar.isLeapYear(1740));
+    assertEquals(true, CopticCalendar.isLeapYear(-1));
+    assertEquals(6, CopticCalendar.getNumberOfDaysInMonth(1739, 13));
+    assertEquals(5, CopticCalendar.getNumberOfDaysInMonth(1740, 13));
+  }
+
+  @Test
+  public void fixedDayNumbersShouldRoundTrip() {
+    CopticCalendar date = new CopticCalendar(-10, 1, 1);
+    long first = CopticCalendar.toFixed(-10, 1, 1);
+    for (long fixed = first; fixed < first + 1000000; ++fixed) {
+      assertEquals("FAIL: Day " + fixed + " is broken",
+                   PackedDate.pack(date.getYear(), date.getMonth(),
+                     date.getDay()),
+                   CopticCalendar.fromFixed(fixed));
+      date.nextDay();
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import com.hm.cal.date.EraCalendar.CalendarType;
+import com.hm.cal.date.EraCalendar.JapaneseEra;
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.util.AlmanacConverter.toEraCalendar;
+import static com.hm.cal.util.AlmanacConverter.toGregorianCalendar;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests {@link com.hm.cal.date.EraCalendar}.
+ *
+ * @since 2026.10.16
+ */
+public class EraCalendarTest {
+
+  @Test
+  public void yearsShouldBeOffsetFromGregorian() {
+    GregorianCalendar g = new GregorianCalendar(2024, 3, 1);
+    assertEquals("FAIL: 2024 is not Dangun 4357",
+                 new EraCalendar(4357, 3, 1, CalendarType.DANGUN),
+                 toEraCalendar(g, CalendarType.DANGUN));
+    assertEquals("FAIL: 2024 is not Juche 113",
+                 new EraCalendar(113, 3, 1, CalendarType.JUCHE),
+                 toEraCalendar(g, CalendarType.JUCHE));
+    assertEquals("FAIL: 2024 is not Minguo 113",
+                 new EraCalendar(113, 3, 1, CalendarType.MINGUO),
+                 toEraCalendar(g, CalendarType.MINGUO));
+    assertEquals("FAIL: 2024 is not Buddhist Era 2567",
+                 new EraCalendar(2567, 3, 1, CalendarType.THAI_BUDDHIST),
+                 toEraCalendar(g, CalendarType.THAI_BUDDHIST));
+    assertEquals("FAIL: Minguo 1 is not 1912",
+                 new GregorianCalendar(1912, 1, 1),
+                 toGregorianCalendar(
+                   new EraCalendar(1, 1, 1, CalendarType.MINGUO)));
+    assertEquals(29, new EraCalendar(2567, 2, 1, CalendarType.THAI_BUDDHIST)
+                       .getNumberOfDaysInMonth());
+  }
+
+  @Test
+  public void japaneseErasShouldBeginOnAccession() {
+    assertEquals("FAIL: 30 April 2019 is not Heisei 31",
+                 new EraCalendar(JapaneseEra.HEISEI, 31, 4, 30),
+                 toEraCalendar(new GregorianCalendar(2019, 4, 30),
+                               CalendarType.JAPANESE));
+    assertEquals("FAIL: 1 May 2019 is not Reiwa 1",
+                 new EraCalendar(JapaneseEra.REIWA, 1, 5, 1),
+                 toEraCalendar(new GregorianCalendar(2019, 5, 1),
+                               CalendarType.JAPANESE));
+    assertEquals("FAIL: 7 January 1989 is not Showa 64",
+                 JapaneseEra.SHOWA,
+                 EraCalendar.getJapaneseEra(
+                   GregorianCalendar.toFixed(1989, 1, 7)));
+    assertEquals("FAIL: 30 July 1912 is not Taisho 1",
+                 JapaneseEra.TAISHO,
+                 EraCalendar.getJapaneseEra(
+                   GregorianCalendar.toFixed(1912, 7, 30)));
+    assertEquals("May 1, Reiwa 1",
+                 new EraCalendar(JapaneseEra.REIWA, 1, 5, 1).getDate());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void japaneseDatesShouldNotPrecedeMeiji() {
+    EraCalendar.getJapaneseEra(GregorianCalendar.toFixed(1867, 12, 31));
+  }
+
+  @Test
+  public void japaneseDaysShouldStepAcrossEras() {
+    EraCalendar date = new EraCalendar(JapaneseEra.MEIJI, 1, 1, 1);
+    long first = date.getFixed();
+    for (long fixed = first; fixed < first + 60000; ++fixed) {
+      assertEquals("FAIL: Day " + fixed + " is broken",
+                   EraCalendar.getJapaneseEra(fixed),
+                   date.getEra());
+      assertEquals("FAIL: Day " + fixed + " is broken",
+                   EraCalendar.fromFixed(fixed, CalendarType.JAPANESE),
+                   PackedDate.pack(date.getYear(),
+                     date.getMonth(), date.getDay()));
+      date.nextDay();
+    }
+    date = new EraCalendar(JapaneseEra.REIWA, 1, 5, 1);
+    date.prevDay();
+    assertEquals("FAIL: 30 April 2019 is not Heisei 31",
+                 new EraCalendar(JapaneseEra.HEISEI, 31, 4, 30),
+                 date);
+  }
+
+  @Test
+  public void dayNumberShouldFollowTheEra() {
+    EraCalendar date = new EraCalendar(JapaneseEra.HEISEI, 1, 1, 8);
+    assertEquals(GregorianCalendar.toFixed(1989, 1, 8), date.getDayNumber());
+    date.set(new GregorianCalendar(1868, 1, 8));
+    assertEquals(JapaneseEra.MEIJI, date.getEra());
+    assertEquals("FAIL: Day number is kept from the Heisei era",
+                 GregorianCalendar.toFixed(1868, 1, 8), date.getDayNumber());
+    date = new EraCalendar(JapaneseEra.SHOWA, 64, 1, 7);
+    date.getDayNumber();
+    date.nextDay();
+    assertEquals(JapaneseEra.HEISEI, date.getEra());
+    assertEquals(GregorianCalendar.toFixed(1989, 1, 8), date.getDayNumber());
+  }
+}
@@ -0,0 +1,76 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.util.AlmanacConverter.toEthiopianCalendar;
+import static com.hm.cal.util.AlmanacConverter.toGregorianCalendar;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests {@link com.hm.cal.date.EthiopianCalendar}.
+ *
+ * @since 2026.10.16
+ */
+public class EthiopianCalendarTest {
+
+  @Test
+  public void datesShouldConvertToGregorian() {
+    assertEquals("FAIL: 1 Meskerem 1 is not 29 August 8 (Julian)",
+                 JulianCalendar.toFixed(8, 8, 29),
+                 EthiopianCalendar.toFixed(1, 1, 1));
+    assertEquals("FAIL: 1 Meskerem 2017 is not 11 September 2024",
+                 new GregorianCalendar(2024, 9, 11),
+                 toGregorianCalendar(new EthiopianCalendar(2017, 1, 1)));
+    assertEquals("FAIL: 7 January 2024 is not 28 Tahsas 2016",
+                 new EthiopianCalendar(2016, 4, 28),
+                 toEthiopianCalendar(new GregorianCalendar(2024, 1, 7)));
+  }
+
+  @Test
+  public void ameteAlemShouldBe5500YearsAhead() {
+    EthiopianCalendar.Era alem = EthiopianCalendar.Era.AMETE_ALEM;
+    assertEquals("FAIL: 1 Meskerem 7517 AA is not 1 Meskerem 2017 AM",
+                 EthiopianCalendar.toFixed(2017, 1, 1),
+                 EthiopianCalendar.toFixed(7517, 1, 1, alem));
+    assertEquals(EthiopianCalendar.isLeapYear(2015),
+                 EthiopianCalendar.isLeapYear(7515, alem));
+
+    EthiopianCalendar date = (EthiopianCalendar) AlmanacConverter.convert(
+      new GregorianCalendar(2024, 1, 7), CalendarId.ETHIOPIAN_AMETE_ALEM);
+    assertEquals("FAIL: 7 January 2024 is not 28 Tahsas 7516 AA",
+                 new EthiopianCalendar(7516, 4, 28, alem),
+                 date);
+  }
+
+  @Test
+  public void fixedDayNumbersShouldRoundTrip() {
+    EthiopianCalendar.Era alem = EthiopianCalendar.Era.AMETE_ALEM;
+    EthiopianCalendar date = new EthiopianCalendar(1, 1, 1, alem);
+    long first = EthiopianCalendar.toFixed(1, 1, 1, alem);
+    for (long fixed = first; fixed < first + 2100000; ++fixed) {
+      assertEquals("FAIL: Day " + fixed + " is broken",
+                   PackedDate.pack(date.getYear(), date.getMonth(),
+                     date.getDay()),
+                   EthiopianCalendar.fromFixed(fixed, alem));
+      date.nextDay();
+    }
+  }
+}
@@ -15,6 +15,8 @@ limitations under the License.
 *****************************************************************************/
 package com.hm.cal.date;
 
+import com.hm.cal.util.PackedDate;
+
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
@@ -77,5 +79,114 @@ public class FrenchRepublicanCalendarTest {
                     b);
     }
   }
-  
+
+  @Test
+  public void yearsShouldStartOnTheParisEquinox() {
+    assertEquals("FAIL: Year I does not begin on 22 September 1792",
+                 2375840L,
+                 FrenchRepublicanCalendar.toFixed(1, 1, 1));
+
+    // Either side of each edge of the equinox table.
+    int[] years = { 0, 1, 2, 1208, 1209, 1210, 1211 };
+    for (int year : years) {
+      long newYear = FrenchRepublicanCalendar.toFixed(year, 1, 1);
+      assertEquals("FAIL: Year " + year + " does not round trip",
+                   PackedDate.pack(year, 1, 1),
+                   FrenchRepublicanCalendar.fromFixed(newYear));
+      assertEquals("FAIL: Year " + (year - 1) + " does not end on its eve",
+                   year - 1,
+                   PackedDate.getYear(
+                     FrenchRepublicanCalendar.fromFixed(newYear - 1)));
+    }
+  }
+
+  @Test
+  public void arithmeticLeapYearsShouldFollowRommesRule() {
+    int[] leap = { 4, 8, 12, 20, 96, 104, 400, 800, 2000, 2400 };
+    int[] common = { 3, 7, 11, 15, 100, 200, 300, 1900, 4000, 8000 };
+    for (int year : leap)
+      assertEquals("FAIL: Year " + year + " should be a leap year",
+                   6,
+                   FrenchRepublicanCalendar.getNumberOfDaysInMonth(13, year,
+                     FrenchRepublicanCalendar.CalendarType.ARITHMETIC));
+    for (int year : common)
+      assertEquals("FAIL: Year " + year + " should not be a leap year",
+                   5,
+                   FrenchRepublicanCalendar.getNumberOfDaysInMonth(13, year,
+                     FrenchRepublicanCalendar.CalendarType.ARITHMETIC));
+  }
+
+  @Test
+  public void arithmeticDatesShouldRoundTrip() {
+    FrenchRepublicanCalendar.CalendarType type =
+      FrenchRepublicanCalendar.CalendarType.ARITHMETIC;
+    assertEquals("FAIL: Year I does not begin on 22 September 1792",
+                 GregorianCalendar.toFixed(1792, 9, 22),
+                 FrenchRepublicanCalendar.toFixed(1, 1, 1, type));
+
+    // Cross a 4000-year cycle, including years before the epoch.
+    int year = -10;
+    int month = 1;
+    int day = 1;
+    long first = FrenchRepublicanCalendar.toFixed(year, month, day, type);
+    for (long fixed = first; fixed < first + 1470000; ++fixed) {
+      assertEquals("FAIL: Day " + fixed + " is broken",
+                   PackedDate.pack(year, month, day),
+                   FrenchRepublicanCalendar.fromFixed(fixed, type));
+      if (++day > FrenchRepublicanCalendar.getNumberOfDaysInMonth(month, year, type)) {
+        day = 1;
+        if (++month > 13) {
+          month = 1;
+          ++year;
+        }
+      }
+    }
+    assertEquals("FAIL: Dates do not convert back to their day number",
+                 first + 1470000,
+                 FrenchRepublicanCalendar.toFixed(year, month, day, type));
+  }
+
+  @Test
+  public void arithmeticDatesShouldConvertThroughTheirSystem() {
+    FrenchRepublicanCalendar date = new FrenchRepublicanCalendar(4, 13, 1, 6,
+      FrenchRepublicanCalendar.CalendarType.ARITHMETIC);
+    GregorianCalendar gregorian = toGregorianCalendar(date);
+    assertEquals("FAIL: Sextidi of An IV is not 21 September 1796",
+                 new GregorianCalendar(1796, 9, 21),
+                 gregorian);
+  }
+
+  @Test
+  public void dayNumberShouldFollowTheDecade() {
+    FrenchRepublicanCalendar date = new FrenchRepublicanCalendar(208, 4, 2, 1);
+    assertEquals(GregorianCalendar.toFixed(2000, 1, 1), date.getDayNumber());
+    date.setDay(1);
+    assertEquals("FAIL: setDay does not move to the first decade",
+                 GregorianCalendar.toFixed(1999, 12, 22), date.getDayNumber());
+    date.set(new GregorianCalendar(2000, 1, 1));
+    assertEquals("FAIL: set does not move to the second decade",
+                 GregorianCalendar.toFixed(2000, 1, 1), date.getDayNumber());
+    date.nextDay();
+    assertEquals(GregorianCalendar.toFixed(2000, 1, 2), date.getDayNumber());
+  }
+
+  @Test
+  public void dayNumberShouldFollowManySteps() {
+    FrenchRepublicanCalendar date = new FrenchRepublicanCalendar(232, 6, 12);
+    long fixed = date.getDayNumber();
+    date.addDays(10);
+    assertEquals("FAIL: Ten days forward keeps a stale day number",
+                 fixed + 10, date.getDayNumber());
+    for (int i = 1; i <= 45; ++i) {
+      date.nextDay();
+      assertEquals(fixed + 10 + i, date.getDayNumber());
+    }
+    date.subtractDays(30);
+    assertEquals("FAIL: Thirty days back keeps a stale day number",
+                 fixed + 25, date.getDayNumber());
+    for (int i = 1; i <= 45; ++i) {
+      date.prevDay();
+      assertEquals(fixed + 25 - i, date.getDayNumber());
+    }
+  }
 }
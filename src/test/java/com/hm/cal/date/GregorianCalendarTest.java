@@ -16,6 +16,8 @@ limitations under the License.
 package com.hm.cal.date;
 
 import java.util.Random;
+
+import com.hm.cal.util.PackedDate;
 import org.joda.time.DateTime;
 
 import static org.junit.Assert.assertEquals;
@@ -38,6 +40,25 @@ public class GregorianCalendarTest {
                   GregorianCalendar.isLeapYear(1900));
   }
 
+  @Test
+  public void yearsDivisibleByFourShouldBeLeapYears() {
+    assertEquals( "FAIL: 2016 must be leap year",
+                  true,
+                  GregorianCalendar.isLeapYear(2016));
+  }
+
+  @Test
+  public void fixedDayNumberShouldRoundTrip() {
+    for (long n=0; n<2500000; n+=997) {
+      long date = GregorianCalendar.fromFixed(n);
+      assertEquals( "FAIL: Gregorian fixed day number failed round trip",
+                    n,
+                    GregorianCalendar.toFixed(PackedDate.getYear(date),
+                                              PackedDate.getMonth(date),
+                                              PackedDate.getDay(date)));
+    }
+  }
+
   @Test
   public void sameDatesShouldBeEqual() {
     GregorianCalendar date1 = new GregorianCalendar(1986,9,3);
@@ -18,6 +18,7 @@ package com.hm.cal.date;
 import java.util.Random;
 
 import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
 import org.joda.time.DateTime;
 
 import static org.junit.Assert.assertEquals;
@@ -93,4 +94,73 @@ public class HebrewCalendarTest {
       assertEquals(jd.getValue(),converted.getValue(),0.00);
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  public void roshHashanahShouldComputeCorrectly() {
+    int[] years = { 5784, 5785, 5786, 9999, 10000 };
+    int[] lengths = { 383, 355, 354 };
+    for (int pass = 0; pass < 2; ++pass) {
+      assertEquals("FAIL: Rosh Hashanah 5785 is not 3 October 2024",
+                   GregorianCalendar.toFixed(2024, 10, 3),
+                   HebrewCalendar.toFixed(5785, 7, 1));
+      assertEquals("FAIL: Rosh Hashanah 5786 is not 23 September 2025",
+                   GregorianCalendar.toFixed(2025, 9, 23),
+                   HebrewCalendar.toFixed(5786, 7, 1));
+      for (int i = 0; i < lengths.length; ++i)
+        assertEquals("FAIL: Year length is broken",
+                     lengths[i],
+                     HebrewCalendar.getNumberOfDaysInYear(years[i]));
+      // Across the end of the new year table.
+      for (int year : years) {
+        long newYear = HebrewCalendar.toFixed(year, 7, 1);
+        assertEquals("FAIL: Year " + year + " does not round trip",
+                     PackedDate.pack(year, 7, 1),
+                     HebrewCalendar.fromFixed(newYear));
+      }
+    }
+  }
+
+  @Test
+  public void fixedDayNumbersShouldFollowMonthLengths() {
+    // One full 19-year cycle, covering every year type.
+    long first = HebrewCalendar.toFixed(5780, 7, 1);
+    long last = HebrewCalendar.toFixed(5799, 7, 1);
+    HebrewCalendar date = new HebrewCalendar(5780, 7, 1);
+    for (long fixed = first; fixed < last; ++fixed) {
+      assertEquals("FAIL: Day number " + fixed + " is broken",
+                   PackedDate.pack(date.getYear(), date.getMonth(),
+                                   date.getDay()),
+                   HebrewCalendar.fromFixed(fixed));
+      assertEquals("FAIL: Day number " + fixed + " does not round trip",
+                   fixed,
+                   HebrewCalendar.toFixed(date.getYear(), date.getMonth(),
+                                          date.getDay()));
+      date.nextDay();
+    }
+  }
+
+  @Test
+  public void previousDaysShouldFollowMonthLengths() {
+    long first = HebrewCalendar.toFixed(5780, 7, 1);
+    long last = HebrewCalendar.toFixed(5799, 7, 1);
+    HebrewCalendar date = new HebrewCalendar(5799, 7, 1);
+    for (long fixed = last; fixed >= first; --fixed) {
+      assertEquals("FAIL: Day number " + fixed + " is broken",
+                   PackedDate.pack(date.getYear(), date.getMonth(),
+                                   date.getDay()),
+                   HebrewCalendar.fromFixed(fixed));
+      date.prevDay();
+    }
+  }
+
+  @Test
+  public void yearProfilesShouldBeCached() {
+    HebrewYearProfile profile = HebrewCalendar.getYearProfile(5784);
+    assertEquals(true, profile == HebrewCalendar.getYearProfile(5784));
+    assertEquals(true, profile.isLeapYear());
+    assertEquals(383, profile.getNumberOfDays());
+    assertArrayEquals("FAIL: Month lengths are broken",
+                      new int[]{30, 29, 30, 29, 30, 29, 30, 29, 29, 29, 30, 30, 29},
+                      HebrewCalendar.getDaysPerMonthInYear(5784));
+  }
+}
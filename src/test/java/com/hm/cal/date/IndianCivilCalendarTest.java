@@ -0,0 +1,70 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.util.AlmanacConverter.toGregorianCalendar;
+import static com.hm.cal.util.AlmanacConverter.toIndianCivilCalendar;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests {@link com.hm.cal.date.IndianCivilCalendar}.
+ *
+ * @since 2026.10.16
+ */
+public class IndianCivilCalendarTest {
+
+  @Test
+  public void datesShouldConvertToGregorian() {
+    assertEquals("FAIL: 1 Chaitra 1946 is not 21 March 2024",
+                 new GregorianCalendar(2024, 3, 21),
+                 toGregorianCalendar(new IndianCivilCalendar(1946, 1, 1)));
+    assertEquals("FAIL: 1 Chaitra 1945 is not 22 March 2023",
+                 new GregorianCalendar(2023, 3, 22),
+                 toGregorianCalendar(new IndianCivilCalendar(1945, 1, 1)));
+    assertEquals("FAIL: 15 August 1947 is not 24 Shravana 1869",
+                 new IndianCivilCalendar(1869, 5, 24),
+                 toIndianCivilCalendar(new GregorianCalendar(1947, 8, 15)));
+  }
+
+  @Test
+  public void leapYearsShouldFollowTheGregorianYear() {
+    assertEquals(true, IndianCivilCalendar.isLeapYear(1922));
+    assertEquals(false, IndianCivilCalendar.isLeapYear(1822));
+    assertEquals(31, IndianCivilCalendar.getNumberOfDaysInMonth(1946, 1));
+    assertEquals(30, IndianCivilCalendar.getNumberOfDaysInMonth(1945, 1));
+    assertEquals(31, IndianCivilCalendar.getNumberOfDaysInMonth(1945, 6));
+    assertEquals(30, IndianCivilCalendar.getNumberOfDaysInMonth(1945, 12));
+  }
+
+  @Test
+  public void fixedDayNumbersShouldRoundTrip() {
+    IndianCivilCalendar date = new IndianCivilCalendar(-10, 1, 1);
+    long first = IndianCivilCalendar.toFixed(-10, 1, 1);
+    for (long fixed = first; fixed < first + 1000000; ++fixed) {
+      long packed = PackedDate.pack(date.getYear(), date.getMonth(),
+        date.getDay());
+      assertEquals("FAIL: Day " + fixed + " is broken",
+                   packed, IndianCivilCalendar.fromFixed(fixed));
+      assertEquals("FAIL: Day " + fixed + " is broken",
+                   fixed, IndianCivilCalendar.toFixed(date.getYear(),
+                     date.getMonth(), date.getDay()));
+      date.nextDay();
+    }
+  }
+}
@@ -5,6 +5,7 @@
  ****************************************************************************/
 package com.hm.cal.date;
 
+import com.hm.cal.util.PackedDate;
 import org.apache.commons.lang3.ArrayUtils;
 import org.junit.Before;
 import org.junit.Test;
@@ -72,4 +73,84 @@ public class IslamicCalendarTest {
       }
     }
   }
+
+  @Test
+  public void fixedDayNumbersShouldHonorLeapYearRules() {
+    IslamicCalendar.CalendarType[] types = {
+      IslamicCalendar.CalendarType.CIVIL,
+      IslamicCalendar.CalendarType.ASTRONOMICAL
+    };
+    for (IslamicCalendar.CalendarType type : types) {
+      for (IslamicCalendar.LeapYearRule rule : IslamicCalendar.LeapYearRule.values()) {
+        for (int year = -60; year < 1500; ++year) {
+          long newYear = IslamicCalendar.toFixed(year, 1, 1, type, rule);
+          assertEquals("FAIL: Year length is broken for " + rule,
+                       IslamicCalendar.getNumberOfDaysInYear(year, rule),
+                       IslamicCalendar.toFixed(year + 1, 1, 1, type, rule) - newYear);
+          int month = 1 + (year & 7);
+          long date = PackedDate.pack(year, month, 29);
+          long fixed = IslamicCalendar.toFixed(year, month, 29, type, rule);
+          assertEquals("FAIL: Round trip is broken for " + rule,
+                       date,
+                       IslamicCalendar.fromFixed(fixed, type, rule));
+          assertEquals("FAIL: Year start is broken for " + rule,
+                       PackedDate.pack(year, 1, 1),
+                       IslamicCalendar.fromFixed(newYear, type, rule));
+          assertEquals("FAIL: Year end is broken for " + rule,
+                       PackedDate.pack(year - 1, 12,
+                         IslamicCalendar.getNumberOfDaysInMonthInYear(12, year - 1, rule)),
+                       IslamicCalendar.fromFixed(newYear - 1, type, rule));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void astronomicalCalendarShouldStartOneDayEarlier() {
+    assertEquals(IslamicCalendar.toFixed(1446, 1, 1) - 1,
+                 IslamicCalendar.toFixed(1446, 1, 1,
+                   IslamicCalendar.CalendarType.ASTRONOMICAL));
+  }
+
+  @Test
+  public void ummAlQuraShouldMatchOfficialDates() {
+    IslamicCalendar.CalendarType uq = IslamicCalendar.CalendarType.UMM_AL_QURA;
+    IslamicCalendar.LeapYearRule rule = IslamicCalendar.LeapYearRule.WEST_ISLAMIC;
+    assertEquals("FAIL: 1 Ramadan 1445 is not 11 March 2024",
+                 GregorianCalendar.toFixed(2024, 3, 11),
+                 IslamicCalendar.toFixed(1445, 9, 1, uq, rule));
+    assertEquals("FAIL: 1 Muharram 1446 is not 7 July 2024",
+                 GregorianCalendar.toFixed(2024, 7, 7),
+                 IslamicCalendar.toFixed(1446, 1, 1, uq, rule));
+    assertEquals("FAIL: 1 Shawwal 1444 is not 21 April 2023",
+                 GregorianCalendar.toFixed(2023, 4, 21),
+                 IslamicCalendar.toFixed(1444, 10, 1, uq, rule));
+
+    IslamicCalendar date = new IslamicCalendar(1300, 1, 1, uq);
+    long first = IslamicCalendar.toFixed(1300, 1, 1, uq, rule);
+    long last = IslamicCalendar.toFixed(1600, 12,
+      IslamicCalendar.getNumberOfDaysInMonthInYear(12, 1600, uq, rule), uq, rule);
+    for (long fixed = first; fixed <= last; ++fixed) {
+      assertEquals("FAIL: Umm al-Qura day " + fixed + " is broken",
+                   PackedDate.pack(date.getYear(), date.getMonth(), date.getDay()),
+                   IslamicCalendar.fromFixed(fixed, uq, rule));
+      date.nextDay();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ummAlQuraShouldRejectYearsOutsideTable() {
+    IslamicCalendar.toFixed(1601, 1, 1,
+      IslamicCalendar.CalendarType.UMM_AL_QURA,
+      IslamicCalendar.LeapYearRule.WEST_ISLAMIC);
+  }
+
+  @Test
+  public void calendarTypeValuesShouldBeDistinct() {
+    IslamicCalendar.CalendarType[] types = IslamicCalendar.CalendarType.values();
+    for (int i = 0; i < types.length; ++i)
+      for (int j = i + 1; j < types.length; ++j)
+        assertTrue("FAIL: " + types[i] + " and " + types[j] + " share a value",
+                   types[i].getValue() != types[j].getValue());
+  }
 }
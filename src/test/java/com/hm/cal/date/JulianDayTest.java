@@ -0,0 +1,59 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Tests {@link com.hm.cal.date.JulianDay}.
+ *
+ * @since 2026.10.16
+ */
+public class JulianDayTest {
+
+  @Test
+  public void epochsShouldBeReadOnly() {
+    JulianDay[] epochs = {
+      JulianDay.EPOCH, GregorianCalendar.EPOCH, FrenchRepublicanCalendar.EPOCH,
+      PersianCalendar.EPOCH, HebrewCalendar.EPOCH, MayaCalendar.EPOCH
+    };
+    for (JulianDay epoch : epochs) {
+      double value = epoch.getValue();
+      try {
+        epoch.plus(1);
+        fail("FAIL: Epoch " + value + " can be moved");
+      } catch (UnsupportedOperationException e) {
+        assertEquals(value, epoch.getValue(), 0.0);
+      }
+    }
+    try {
+      JulianDay.EPOCH.set(new GregorianCalendar(2000, 1, 1));
+      fail("FAIL: Epoch can be set");
+    } catch (UnsupportedOperationException e) {
+      assertEquals(2400000.5, JulianDay.EPOCH.getValue(), 0.0);
+    }
+  }
+
+  @Test
+  public void copiesOfAnEpochShouldBeWritable() {
+    JulianDay jd = new JulianDay(JulianDay.EPOCH);
+    jd.plus(1);
+    assertEquals(2400001.5, jd.getValue(), 0.0);
+    assertEquals(1.0, jd.getModified(), 0.0);
+  }
+}
@@ -15,10 +15,122 @@ limitations under the License.
 *****************************************************************************/
 package com.hm.cal.date;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
 /**
- * Tests {@link com.hm.cal.date.MayaDate}
+ * Tests {@link com.hm.cal.date.MayaCalendar}
  * @author Chris Engelsma
  * @version 2015.08.24
  */
 public class MayaDateTest {
+
+  @Test
+  public void calendarRoundShouldComputeCorrectly() {
+    assertEquals("FAIL: 13.0.0.0.0 is not 4 Ajaw 8 Kumk'u",
+                 "4 Ajaw 8 Kumk'u",
+                 new MayaCalendar(0, 0, 0, 0, 0).getCalendarRound());
+    assertEquals("FAIL: 21 December 2012 is not 4 Ajaw 3 K'ank'in",
+                 "4 Ajaw 3 K'ank'in",
+                 new MayaCalendar(13, 0, 0, 0, 0).getCalendarRound());
+
+    // Step through a full Calendar Round and a few days either side.
+    long first = MayaCalendar.toFixed(13, 0, 0, 0, 0) - 30;
+    int number = 13, day = 9, haabDay = 13, haabMonth = 11;
+    for (long fixed = first; fixed < first + 19040; ++fixed) {
+      assertEquals(number, MayaCalendar.getTzolkinNumber(fixed));
+      assertEquals(day, MayaCalendar.getTzolkinDay(fixed));
+      assertEquals(haabDay, MayaCalendar.getHaabDay(fixed));
+      assertEquals(haabMonth, MayaCalendar.getHaabMonth(fixed));
+      number = number % 13 + 1;
+      day = (day + 1) % 20;
+      if (++haabDay == (haabMonth == 18 ? 5 : 20)) {
+        haabDay = 0;
+        haabMonth = (haabMonth + 1) % 19;
+      }
+    }
+  }
+
+  @Test
+  public void calendarRoundSolverShouldFindEveryMatch() {
+    long from = MayaCalendar.toFixed(9, 0, 0, 0, 0);
+    long to = from + 3 * 18980 + 100;
+    for (long fixed = from; fixed < from + 18980; fixed += 7) {
+      int number = MayaCalendar.getTzolkinNumber(fixed);
+      int day = MayaCalendar.getTzolkinDay(fixed);
+      int haabDay = MayaCalendar.getHaabDay(fixed);
+      int haabMonth = MayaCalendar.getHaabMonth(fixed);
+      long[] expected = fixed + 3 * 18980 <= to ?
+        new long[] { fixed, fixed + 18980, fixed + 2 * 18980, fixed + 3 * 18980 } :
+        new long[] { fixed, fixed + 18980, fixed + 2 * 18980 };
+      assertArrayEquals("FAIL: Calendar Round solver missed day " + fixed,
+                        expected,
+                        MayaCalendar.findCalendarRound(
+                          number, day, haabDay, haabMonth, from, to));
+    }
+
+    // 4 Ajaw can only fall on Haab' days 3, 8, 13 and 18.
+    assertEquals(0, MayaCalendar.findCalendarRound(4, 19, 9, 16, from, to).length);
+    assertEquals(-1, MayaCalendar.calendarRoundPosition(4, 19, 9, 16));
+    assertEquals(0, MayaCalendar.calendarRoundPosition(4, 19, 8, 17));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void calendarRoundSolverShouldRejectBadWayebDay() {
+    MayaCalendar.calendarRoundPosition(1, 0, 5, 18);
+  }
+
+  @Test
+  public void fullLongCountShouldRoundTrip() {
+    long epoch = MayaCalendar.toFixed(0, 0, 0, 0, 0);
+    assertEquals("FAIL: 1.0.0.0.0.0.0.0.0 is not one Alautun",
+                 epoch + 23040000000L,
+                 MayaCalendar.toFixed(1, 0, 0, 0, 0, 0, 0, 0, 0));
+
+    long[] days = {
+      epoch - 1, epoch, epoch + 2879999, epoch + 2880000,
+      epoch + 23039999999L, epoch + 23040000000L,
+      epoch - 23040000001L, epoch + 7 * 23040000000L + 123456789L,
+      epoch - 5000 * 23040000000L - 987654321L
+    };
+    for (long fixed : days) {
+      long date = MayaCalendar.fromFixed(fixed);
+      assertEquals("FAIL: Day " + fixed + " does not round trip",
+                   fixed, MayaCalendar.toFixed(date));
+      assertEquals("FAIL: Day " + fixed + " does not round trip",
+                   fixed, MayaCalendar.fromPacked(date).getFixed());
+    }
+
+    long date = MayaCalendar.fromFixed(epoch - 1);
+    assertEquals(-1, MayaCalendar.getAlautun(date));
+    assertEquals(19, MayaCalendar.getKinchiltun(date));
+    assertEquals(19, MayaCalendar.getPiktun(date));
+    assertEquals(19, MayaCalendar.getBaktun(date));
+    assertEquals(17, MayaCalendar.getUinal(date));
+    assertEquals(19, MayaCalendar.getKin(date));
+
+    date = MayaCalendar.fromFixed(epoch + 20 * 144000L);
+    assertEquals("FAIL: 20 B'aktun does not carry into the Piktun",
+                 "0.0.0.1.0.0.0.0.0",
+                 MayaCalendar.fromPacked(date).getDate());
+  }
+
+  @Test
+  public void dayNumberShouldFollowMutations() {
+    MayaCalendar m = new MayaCalendar(12, 19, 6, 15, 2);
+    m.getDayNumber();
+    m.setKatun(18);
+    assertEquals("FAIL: K'atun change is not seen",
+                 m.getFixed(), m.getDayNumber());
+    m.setDay(3);
+    assertEquals("FAIL: K'in change is not seen",
+                 m.getFixed(), m.getDayNumber());
+    assertEquals(3, m.getKin());
+    m.set(new GregorianCalendar(2000, 1, 1));
+    assertEquals("FAIL: Set is not seen",
+                 GregorianCalendar.toFixed(2000, 1, 1), m.getDayNumber());
+    m.nextDay();
+    assertEquals(GregorianCalendar.toFixed(2000, 1, 2), m.getDayNumber());
+  }
 }
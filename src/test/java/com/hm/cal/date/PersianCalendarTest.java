@@ -0,0 +1,106 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.date.PersianCalendar.CalendarType.ARITHMETIC;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests {@link com.hm.cal.date.PersianCalendar}.
+ *
+ * @since 2026.10.16
+ */
+public class PersianCalendarTest {
+
+  @Test
+  public void leapYearShouldComputeCorrectly() {
+    int first = 1390;
+    boolean[] expected = new boolean[16];
+    expected[1391 - first] = true;
+    expected[1395 - first] = true;
+    expected[1399 - first] = true;
+    expected[1403 - first] = true;
+
+    boolean[] actual = new boolean[expected.length];
+    for (int i = 0; i < actual.length; ++i)
+      actual[i] = PersianCalendar.isLeapYear(first + i);
+
+    assertArrayEquals("FAIL: Leap years not computing correctly",
+                      expected,
+                      actual);
+  }
+
+  @Test
+  public void yearsShouldStartOnTheTehranEquinox() {
+    assertEquals("FAIL: 1 Farvardin 1403 is not 20 March 2024",
+                 GregorianCalendar.toFixed(2024, 3, 20),
+                 PersianCalendar.toFixed(1403, 1, 1));
+
+    // Either side of each edge of the equinox table.
+    int[] years = { 0, 1, 2, 2377, 2378, 2379, 2380 };
+    for (int year : years) {
+      long newYear = PersianCalendar.toFixed(year, 1, 1);
+      assertEquals("FAIL: Year " + year + " does not round trip",
+                   PackedDate.pack(year, 1, 1),
+                   PersianCalendar.fromFixed(newYear));
+      assertEquals("FAIL: Year " + (year - 1) + " does not end on its eve",
+                   PackedDate.pack(year - 1, 12,
+                     PersianCalendar.getNumberOfDaysInMonth(year - 1, 12)),
+                   PersianCalendar.fromFixed(newYear - 1));
+    }
+  }
+
+  @Test
+  public void arithmeticYearsShouldMatchAstronomicalYears() {
+    int[] expected = {
+      1012, 1045, 1078, 1111, 1144, 1177, 1210, 1276, 1309, 1342, 1474,
+      1932, 1965, 2064, 2097, 2130, 2163, 2196, 2229, 2262, 2295, 2328, 2361
+    };
+    int[] actual = new int[expected.length];
+    int n = 0;
+    for (int year = 1000; year <= 2378; ++year) {
+      if (PersianCalendar.toFixed(year, 1, 1) !=
+          PersianCalendar.toFixed(year, 1, 1, ARITHMETIC)) {
+        assertEquals("FAIL: Too many disagreeing years", true,
+                     n < actual.length);
+        actual[n++] = year;
+      }
+    }
+    assertArrayEquals("FAIL: Documented disagreeing years are wrong",
+                      expected,
+                      actual);
+  }
+
+  @Test
+  public void arithmeticFixedDayNumberShouldRoundTrip() {
+    for (long fixed = 1900000L; fixed < 2900000L; fixed += 7) {
+      long date = PersianCalendar.fromFixed(fixed, ARITHMETIC);
+      assertEquals("FAIL: Arithmetic round trip is broken",
+                   fixed,
+                   PersianCalendar.toFixed(PackedDate.getYear(date),
+                                           PackedDate.getMonth(date),
+                                           PackedDate.getDay(date),
+                                           ARITHMETIC));
+    }
+    assertEquals("FAIL: Arithmetic leap year is broken",
+                 true,
+                 PersianCalendar.isLeapYear(1403, ARITHMETIC));
+  }
+}
@@ -0,0 +1,129 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.date;
+
+import com.hm.cal.date.SovietCalendar.CalendarType;
+import com.hm.cal.util.PackedDate;
+
+import static com.hm.cal.util.AlmanacConverter.toGregorianCalendar;
+import static com.hm.cal.util.AlmanacConverter.toSovietCalendar;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests {@link com.hm.cal.date.SovietCalendar}.
+ *
+ * @since 2026.10.16
+ */
+public class SovietCalendarTest {
+
+  @Test
+  public void weekLengthsShouldFollowTheReforms() {
+    assertEquals(7, new SovietCalendar(1929, 9, 30).getNumberOfDaysInWeek());
+    assertEquals(5, new SovietCalendar(1929, 10, 1).getNumberOfDaysInWeek());
+    assertEquals(5, new SovietCalendar(1931, 11, 30).getNumberOfDaysInWeek());
+    assertEquals(6, new SovietCalendar(1931, 12, 1).getNumberOfDaysInWeek());
+    assertEquals(6, new SovietCalendar(1940, 6, 26).getNumberOfDaysInWeek());
+    assertEquals(7, new SovietCalendar(1940, 6, 27).getNumberOfDaysInWeek());
+  }
+
+  @Test
+  public void weekDaysShouldCycle() {
+    SovietCalendar date = new SovietCalendar(1929, 10, 1);
+    assertEquals("Yellow", date.getWeekDay());
+    date.addDays(4);
+    assertEquals("Green", date.getWeekDay());
+    date.nextDay();
+    assertEquals("Yellow", date.getWeekDay());
+
+    assertEquals("Rest Day", new SovietCalendar(1932, 1, 6).getWeekDay());
+    assertEquals("First Day", new SovietCalendar(1932, 1, 7).getWeekDay());
+    assertEquals("Rest Day", new SovietCalendar(1932, 1, 30).getWeekDay());
+    assertEquals("Extra Day", new SovietCalendar(1932, 1, 31).getWeekDay());
+    assertEquals("Thursday", new SovietCalendar(1940, 6, 27).getWeekDay());
+
+    SovietCalendar extra = new SovietCalendar(1932, 1, 31);
+    assertEquals("FAIL: The extra day has no week day name",
+                 extra.getWeekDay(),
+                 extra.getWeekDays()[SovietCalendar.getWeekDayNumber(
+                   extra.getFixed())]);
+  }
+
+  @Test
+  public void conversionShouldKeepTheDay() {
+    SovietCalendar date = new SovietCalendar(1930, 1, 31);
+    long fixed = date.getFixed();
+    date.convertTo(CalendarType.REVOLUTIONARY);
+    assertEquals(new SovietCalendar(1930, 0, 1, CalendarType.REVOLUTIONARY),
+                 date);
+    assertEquals(fixed, date.getFixed());
+    date.convertTo(CalendarType.CIVIL);
+    assertEquals(new SovietCalendar(1930, 1, 31), date);
+  }
+
+  @Test
+  public void holidaysShouldBelongToNoMonth() {
+    CalendarType rev = CalendarType.REVOLUTIONARY;
+    SovietCalendar lenin = new SovietCalendar(1930, 0, 1, rev);
+    assertTrue(lenin.isHoliday());
+    assertEquals("Lenin Day, 1930", lenin.getDate());
+    assertEquals("FAIL: Lenin Day is not 31 January 1930",
+                 new GregorianCalendar(1930, 1, 31),
+                 toGregorianCalendar(lenin));
+    assertEquals("FAIL: The Days of Industry are not 7-8 November 1930",
+                 new GregorianCalendar(1930, 11, 8),
+                 toGregorianCalendar(new SovietCalendar(1930, 0, 6, rev)));
+    assertEquals("FAIL: 30 December is not the last day of 1930",
+                 GregorianCalendar.toFixed(1930, 12, 31),
+                 SovietCalendar.toFixed(1930, 12, 30, rev));
+
+    SovietCalendar date = new SovietCalendar(1930, 4, 30, rev);
+    date.nextDay();
+    assertEquals(new SovietCalendar(1930, 0, 3, rev), date);
+    date.addDays(2);
+    assertEquals(new SovietCalendar(1930, 5, 1, rev), date);
+    date.subtractDays(3);
+    assertEquals(new SovietCalendar(1930, 4, 30, rev), date);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void leapDayShouldOnlyExistInLeapYears() {
+    SovietCalendar.toFixed(1930, 0, 2, CalendarType.REVOLUTIONARY);
+  }
+
+  @Test
+  public void fixedDayNumbersShouldRoundTrip() {
+    CalendarType rev = CalendarType.REVOLUTIONARY;
+    SovietCalendar date = new SovietCalendar(1900, 1, 1, rev);
+    long first = date.getFixed();
+    for (long fixed = first; fixed < first + 73000; ++fixed) {
+      long packed = SovietCalendar.fromFixed(fixed, rev);
+      assertEquals("FAIL: Day " + fixed + " is broken",
+                   PackedDate.pack(date.getYear(), date.getMonth(),
+                     date.getDay()),
+                   packed);
+      assertEquals("FAIL: Day " + fixed + " is broken",
+                   fixed,
+                   SovietCalendar.toFixed(PackedDate.getYear(packed),
+                     PackedDate.getMonth(packed), PackedDate.getDay(packed),
+                     rev));
+      date.nextDay();
+    }
+    assertEquals(new SovietCalendar(1929, 10, 1),
+                 toSovietCalendar(new GregorianCalendar(1929, 10, 1)));
+  }
+}
@@ -0,0 +1,98 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.system;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.util.PackedDate;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests {@link CalendarSystems}.
+ *
+ * @since 2026.10.16
+ */
+public class CalendarSystemsTest {
+
+  private static final CalendarId[] IDS = {
+    CalendarId.GREGORIAN,
+    CalendarId.JULIAN,
+    CalendarId.FRENCH_REPUBLICAN,
+    CalendarId.MAYA,
+    CalendarId.ISLAMIC,
+    CalendarId.HEBREW,
+    CalendarId.PERSIAN,
+    CalendarId.PERSIAN_ARITHMETIC,
+    CalendarId.FRENCH_REPUBLICAN_ARITHMETIC,
+    CalendarId.INDIAN_CIVIL,
+    CalendarId.COPTIC,
+    CalendarId.ETHIOPIAN,
+    CalendarId.ETHIOPIAN_AMETE_ALEM,
+    CalendarId.CHINESE,
+    CalendarId.DANGUN,
+    CalendarId.JUCHE,
+    CalendarId.MINGUO,
+    CalendarId.THAI_BUDDHIST,
+    CalendarId.SOVIET
+    // The Japanese calendar begins in 1868, after the round trips below start.
+    // The Soviet revolutionary holidays and Ayyám-i-Há belong to no month.
+  };
+
+  @Test
+  public void registeredSystemsShouldMatchTheirIdentifiers() {
+    for (CalendarId id : IDS)
+      assertEquals("FAIL: Registry lookup is broken",
+                   id,
+                   CalendarSystems.get(id).getId());
+  }
+
+  @Test
+  public void fixedDayNumbersShouldRoundTrip() {
+    for (CalendarId id : IDS) {
+      CalendarSystem system = CalendarSystems.get(id);
+      for (long fixed = 2375840L; fixed < 2470000L; fixed += 97) {
+        long date = system.fromFixed(fixed);
+        assertEquals("FAIL: " + id + " round trip is broken",
+                     fixed,
+                     system.toFixed(PackedDate.getYear(date),
+                                    PackedDate.getMonth(date),
+                                    PackedDate.getDay(date)));
+        assertEquals("FAIL: " + id + " almanac round trip is broken",
+                     fixed,
+                     system.toFixed(system.toAlmanac(fixed)));
+      }
+    }
+  }
+
+  @Test
+  public void monthLengthsShouldAgreeWithConversions() {
+    for (CalendarId id : IDS) {
+      CalendarSystem system = CalendarSystems.get(id);
+      long date = system.fromFixed(2446865L);
+      int year = PackedDate.getYear(date);
+      // The Hebrew year begins with Tishri, its seventh month.
+      int first = (id == CalendarId.HEBREW) ? 7 : 1;
+      long fixed = system.toFixed(year, first, 1);
+      int months = system.getNumberOfMonthsInYear(year);
+      for (int month = 1; month <= months; ++month)
+        fixed += system.getNumberOfDaysInMonth(year, month);
+      assertEquals("FAIL: " + id + " month lengths are broken",
+                   system.toFixed(year + 1, first, 1),
+                   fixed);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*****************************************************************************
+ * Copyright 2015 Hypotemoose, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *****************************************************************************/
+package com.hm.cal.system;
+
+import com.hm.cal.constants.CalendarId;
+import com.hm.cal.date.GregorianCalendar;
+import com.hm.cal.date.JulianCalendar;
+import com.hm.cal.util.AlmanacConverter;
+import com.hm.cal.util.PackedDate;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests {@link GregorianJulianShift}.
+ *
+ * @since 2026.10.16
+ */
+public class GregorianJulianShiftTest {
+
+  @Test
+  public void shiftShouldMatchFixedDayNumberConversion() {
+    CalendarSystem gregorian = CalendarSystems.get(CalendarId.GREGORIAN);
+    CalendarSystem julian = CalendarSystems.get(CalendarId.JULIAN);
+    // From 4713 BC to 3000 AD, across every century boundary.
+    for (long fixed = 0; fixed < 2817152; ++fixed) {
+      long g = gregorian.fromFixed(fixed);
+      long j = julian.fromFixed(fixed);
+      assertEquals("FAIL: Gregorian -> Julian shift is broken at " + fixed,
+                   j,
+                   GregorianJulianShift.GREGORIAN_TO_JULIAN.convert(
+                     PackedDate.getYear(g),
+                     PackedDate.getMonth(g),
+                     PackedDate.getDay(g)));
+      assertEquals("FAIL: Julian -> Gregorian shift is broken at " + fixed,
+                   g,
+                   GregorianJulianShift.JULIAN_TO_GREGORIAN.convert(
+                     PackedDate.getYear(j),
+                     PackedDate.getMonth(j),
+                     PackedDate.getDay(j)));
+    }
+  }
+
+  @Test
+  public void converterShouldPreferDirectShift() {
+    assertEquals("FAIL: Direct converter is not registered",
+                 GregorianJulianShift.GREGORIAN_TO_JULIAN,
+                 CalendarSystems.getDirect(CalendarId.GREGORIAN,
+                                           CalendarId.JULIAN));
+    assertEquals("FAIL: Gregorian -> Julian Calendar is broken",
+                 new JulianCalendar(1582, 10, 4),
+                 AlmanacConverter.toJulianCalendar(
+                   new GregorianCalendar(1582, 10, 14)));
+    assertEquals("FAIL: Julian -> Gregorian Calendar is broken",
+                 new GregorianCalendar(1700, 3, 11),
+                 AlmanacConverter.toGregorianCalendar(
+                   new JulianCalendar(1700, 2, 29)));
+  }
+}
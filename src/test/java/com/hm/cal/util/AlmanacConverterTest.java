@@ -15,8 +15,10 @@ limitations under the License.
 *****************************************************************************/
 package com.hm.cal.util;
 
+import com.hm.cal.constants.CalendarId;
 import com.hm.cal.date.*;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
@@ -28,6 +30,7 @@ import org.junit.Test;
 public class AlmanacConverterTest {
 
   private static final JulianDay EXPECTED = new JulianDay(2446864.5);
+  private static final long EXPECTED_FIXED = 2446865L;
 
 
   @Test
@@ -156,4 +159,85 @@ public class AlmanacConverterTest {
                   actual.equals(expected));
   }
 
+  @Test
+  public void almanacsShouldConvertToFixedDayNumber() {
+    Almanac[] dates = {
+      EXPECTED,
+      new GregorianCalendar(1987,3,10),
+      new JulianCalendar(1987,2,25),
+      new FrenchRepublicanCalendar(195,6,2,9),
+      new MayaCalendar(12,18,13,15,2),
+      new IslamicCalendar(1407,7,9),
+      new HebrewCalendar(5747,12,9),
+      new PersianCalendar(1365,12,19)
+    };
+    for (Almanac date : dates)
+      assertEquals( "FAIL: "+date.getName()+" -> fixed day number is broken",
+                    EXPECTED_FIXED,
+                    AlmanacConverter.toFixed(date));
+  }
+
+  @Test
+  public void fixedDayNumberShouldConvertToPackedDates() {
+    long g = GregorianCalendar.fromFixed(EXPECTED_FIXED);
+    assertEquals(1987, PackedDate.getYear(g));
+    assertEquals(3, PackedDate.getMonth(g));
+    assertEquals(10, PackedDate.getDay(g));
+
+    long h = HebrewCalendar.fromFixed(EXPECTED_FIXED);
+    assertEquals(5747, PackedDate.getYear(h));
+    assertEquals(12, PackedDate.getMonth(h));
+    assertEquals(9, PackedDate.getDay(h));
+
+    long m = MayaCalendar.fromFixed(EXPECTED_FIXED);
+    assertEquals(12, MayaCalendar.getBaktun(m));
+    assertEquals(18, MayaCalendar.getKatun(m));
+    assertEquals(13, MayaCalendar.getTun(m));
+    assertEquals(15, MayaCalendar.getUinal(m));
+    assertEquals(2, MayaCalendar.getKin(m));
+  }
+
+  @Test
+  public void fixedDayNumberColumnsShouldConvertToDates() {
+    int n = 20000;
+    int[] jdn = new int[n];
+    for (int i = 0; i < n; ++i) jdn[i] = (int) EXPECTED_FIXED + 7 * (i - n / 2);
+    int[] year = new int[n], month = new int[n], day = new int[n];
+    int[] back = new int[n];
+    AlmanacConverter.convert(jdn, year, month, day, CalendarId.HEBREW);
+    for (int i = 0; i < n; i += 997) {
+      long date = HebrewCalendar.fromFixed(jdn[i]);
+      assertEquals(PackedDate.getYear(date), year[i]);
+      assertEquals(PackedDate.getMonth(date), month[i]);
+      assertEquals(PackedDate.getDay(date), day[i]);
+    }
+    AlmanacConverter.convert(year, month, day, CalendarId.HEBREW, back);
+    assertArrayEquals("FAIL: Hebrew column round trip is broken", jdn, back);
+  }
+
+  @Test
+  public void parallelColumnConversionShouldMatchSequential() {
+    int n = 100000;
+    int[] jdn = new int[n];
+    for (int i = 0; i < n; ++i) jdn[i] = (int) EXPECTED_FIXED - n / 2 + i;
+    int[] year = new int[n], month = new int[n], day = new int[n];
+    int[] pYear = new int[n], pMonth = new int[n], pDay = new int[n];
+    int[] back = new int[n];
+    AlmanacConverter.convert(jdn, year, month, day, CalendarId.GREGORIAN);
+    AlmanacConverter.convertParallel(jdn, pYear, pMonth, pDay,
+      CalendarId.GREGORIAN);
+    assertArrayEquals(year, pYear);
+    assertArrayEquals(month, pMonth);
+    assertArrayEquals(day, pDay);
+    AlmanacConverter.convertParallel(year, month, day, CalendarId.GREGORIAN,
+      back);
+    assertArrayEquals("FAIL: Parallel column round trip is broken", jdn, back);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void columnsOfDifferentLengthsShouldBeRejected() {
+    AlmanacConverter.convert(new int[2], new int[2], new int[1], new int[2],
+      CalendarId.JULIAN);
+  }
+
 }
@@ -160,4 +160,17 @@ public class UtilTest {
                       1.0E-6);
   }
 
+  @Test
+  public void floorDivisionShouldRoundTowardsNegativeInfinity() {
+    long[] x = new long[] { 7, -7, 7, -7, -8 };
+    long[] y = new long[] { 2, 2, -2, -2, 4 };
+    long[] expected = new long[] { 3, -4, -4, 3, -2 };
+    long[] actual = new long[5];
+    for (int i=0; i<5; ++i)
+      actual[i] = Util.floorDiv(x[i],y[i]);
+    assertArrayEquals("FAIL: Floor division not rounding down",
+                      expected,
+                      actual);
+  }
+
 }